@@ -0,0 +1,58 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.engine.ColumnarTodoStorageEngine;
+import com.shai.to_do.repository.engine.HeapTodoStorageEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+final class TodoFixtures {
+    static final int PROBES = 1024;
+
+    private static final String[] STATUSES = {Status.PENDING, Status.DONE, Status.LATE};
+    private static final int CHUNK = 10_000;
+    private static final long DUE_DATE_BASE = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(365);
+
+    private TodoFixtures() {
+    }
+
+    static TodoRepository repository(String engine) {
+        return new TodoRepository("COLUMNAR".equals(engine) ? new ColumnarTodoStorageEngine() : new HeapTodoStorageEngine());
+    }
+
+    static void fill(TodoRepository repository, int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        List<Todo> chunk = new ArrayList<>(CHUNK);
+        for (int id = 1; id <= size; id++) {
+            chunk.add(todo(id, random));
+            if (chunk.size() == CHUNK) {
+                repository.addAll(chunk);
+                chunk = new ArrayList<>(CHUNK);
+            }
+        }
+        repository.addAll(chunk);
+    }
+
+    static Todo todo(int id, SplittableRandom random) {
+        return new Todo(id, title(id), "content of todo " + id, STATUSES[id % STATUSES.length],
+                DUE_DATE_BASE + random.nextLong(TimeUnit.DAYS.toMillis(365)));
+    }
+
+    static String title(int id) {
+        return "todo-" + id;
+    }
+
+    static int[] probeIds(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] ids = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            ids[i] = 1 + random.nextInt(size);
+        }
+        return ids;
+    }
+}
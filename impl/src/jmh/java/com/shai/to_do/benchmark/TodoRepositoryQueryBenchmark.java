@@ -0,0 +1,57 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoRepositoryQueryBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int storeSize;
+
+    @Param({"HEAP", "COLUMNAR"})
+    String engine;
+
+    @Param({"ID", "DUE_DATE", "TITLE"})
+    String sortBy;
+
+    TodoRepository repository;
+    SplittableRandom random;
+    int nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = TodoFixtures.repository(engine);
+        TodoFixtures.fill(repository, storeSize);
+        random = new SplittableRandom(storeSize);
+        nextId = storeSize;
+    }
+
+    @Benchmark
+    public List<Todo> findTodoContentByStatusSortedByField() {
+        return repository.findTodoContentByStatusSortedByField(Status.PENDING, sortBy);
+    }
+
+    @Benchmark
+    public List<Todo> findTodoContentByStatusSortedByFieldUncached() {
+        return repository.findTodoContentPageByStatusSortedByField(Status.PENDING, sortBy, null, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Todo> firstPageAfterAdd() {
+        repository.add(TodoFixtures.todo(++nextId, random));
+        return repository.findTodoContentPageByStatusSortedByField(Status.PENDING, sortBy, null, PAGE_SIZE);
+    }
+}
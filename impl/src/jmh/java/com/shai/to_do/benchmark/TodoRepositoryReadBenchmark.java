@@ -0,0 +1,76 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoRepositoryReadBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int storeSize;
+
+    @Param({"HEAP", "COLUMNAR"})
+    String engine;
+
+    TodoRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = TodoFixtures.repository(engine);
+        TodoFixtures.fill(repository, storeSize);
+    }
+
+    @State(Scope.Thread)
+    public static class Probes {
+        int[] ids;
+        String[] titles;
+        String[] titlePrefixes;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(TodoRepositoryReadBenchmark benchmark, ThreadParams threadParams) {
+            ids = TodoFixtures.probeIds(benchmark.storeSize, threadParams.getThreadIndex());
+            titles = new String[ids.length];
+            titlePrefixes = new String[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                titles[i] = TodoFixtures.title(ids[i]);
+                titlePrefixes[i] = titles[i].substring(0, Math.max(0, titles[i].length() - 2));
+            }
+        }
+
+        int nextIndex() {
+            return next++ & (TodoFixtures.PROBES - 1);
+        }
+    }
+
+    @Benchmark
+    public boolean existsByTitle(Probes probes) {
+        return repository.existsByTitle(probes.titles[probes.nextIndex()]);
+    }
+
+    @Benchmark
+    public List<String> findTitlesByPrefix(Probes probes) {
+        return repository.findTitlesByPrefix(probes.titlePrefixes[probes.nextIndex()], 10);
+    }
+
+    @Benchmark
+    public Todo findById(Probes probes) {
+        return repository.findById(probes.ids[probes.nextIndex()]);
+    }
+
+    @Benchmark
+    public long countByStatus() {
+        return repository.countByStatus(Status.PENDING);
+    }
+}
@@ -0,0 +1,84 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.TodoSearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoRepositorySearchBenchmark {
+    private static final int VOCABULARY = 5_000;
+    private static final int WORDS_PER_TODO = 8;
+    private static final int CHUNK = 10_000;
+    private static final int LIMIT = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    int storeSize;
+
+    @Param({"HEAP", "COLUMNAR"})
+    String engine;
+
+    TodoRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = TodoFixtures.repository(engine);
+        SplittableRandom random = new SplittableRandom(storeSize);
+        List<Todo> chunk = new ArrayList<>(CHUNK);
+        for (int id = 1; id <= storeSize; id++) {
+            Todo todo = TodoFixtures.todo(id, random);
+            todo.setTitle(word(random) + " " + word(random) + " " + id);
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < WORDS_PER_TODO; i++) {
+                content.append(word(random)).append(' ');
+            }
+            todo.setContent(content.toString());
+            chunk.add(todo);
+            if (chunk.size() == CHUNK) {
+                repository.addAll(chunk);
+                chunk = new ArrayList<>(CHUNK);
+            }
+        }
+        repository.addAll(chunk);
+    }
+
+    @Benchmark
+    public TodoSearchResult commonTerm() {
+        return repository.search(List.of("w1"), true, Status.ALL, LIMIT);
+    }
+
+    @Benchmark
+    public TodoSearchResult twoCommonTermsAnd() {
+        return repository.search(List.of("w1", "w2"), true, Status.ALL, LIMIT);
+    }
+
+    @Benchmark
+    public TodoSearchResult twoCommonTermsOr() {
+        return repository.search(List.of("w1", "w2"), false, Status.ALL, LIMIT);
+    }
+
+    @Benchmark
+    public TodoSearchResult commonTermWithStatus() {
+        return repository.search(List.of("w1"), true, Status.PENDING, LIMIT);
+    }
+
+    @Benchmark
+    public TodoSearchResult rareAndCommonTermAnd() {
+        return repository.search(List.of("w4000", "w1"), true, Status.ALL, LIMIT);
+    }
+
+    private static String word(SplittableRandom random) {
+        return "w" + (int) Math.pow(VOCABULARY, random.nextDouble());
+    }
+}
@@ -0,0 +1,106 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = TodoRepositoryWriteBenchmark.BATCH)
+@Measurement(iterations = 50, batchSize = TodoRepositoryWriteBenchmark.BATCH)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoRepositoryWriteBenchmark {
+    static final int BATCH = 100;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int storeSize;
+
+    @Param({"HEAP", "COLUMNAR"})
+    String engine;
+
+    TodoRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = TodoFixtures.repository(engine);
+        TodoFixtures.fill(repository, storeSize);
+    }
+
+    @State(Scope.Thread)
+    public static class NewTodos {
+        Todo[] todos;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(TodoRepositoryWriteBenchmark benchmark, ThreadParams threadParams) {
+            SplittableRandom random = new SplittableRandom(threadParams.getThreadIndex());
+            int firstId = benchmark.storeSize + 1 + threadParams.getThreadIndex() * BATCH;
+            todos = new Todo[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                todos[i] = TodoFixtures.todo(firstId + i, random);
+            }
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(TodoRepositoryWriteBenchmark benchmark) {
+            for (int i = 0; i < next; i++) {
+                benchmark.repository.deleteById(todos[i].getId());
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ExistingTodos {
+        Todo[] todos;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(TodoRepositoryWriteBenchmark benchmark, ThreadParams threadParams) {
+            int firstId = 1 + threadParams.getThreadIndex() * BATCH;
+            if (firstId + BATCH - 1 > benchmark.storeSize) {
+                throw new IllegalStateException("storeSize " + benchmark.storeSize + " holds " + benchmark.storeSize / BATCH
+                        + " disjoint batches of " + BATCH + " ids, not enough for " + threadParams.getThreadCount() + " threads");
+            }
+            todos = new Todo[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                todos[i] = benchmark.repository.findById(firstId + i);
+            }
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(TodoRepositoryWriteBenchmark benchmark) {
+            for (int i = 0; i < next; i++) {
+                benchmark.repository.add(todos[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void add(NewTodos newTodos) {
+        repository.add(newTodos.todos[newTodos.next++]);
+    }
+
+    @Benchmark
+    public int deleteById(ExistingTodos existingTodos) {
+        return repository.deleteById(existingTodos.todos[existingTodos.next++].getId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void addContended(NewTodos newTodos) {
+        add(newTodos);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int deleteByIdContended(ExistingTodos existingTodos) {
+        return deleteById(existingTodos);
+    }
+}
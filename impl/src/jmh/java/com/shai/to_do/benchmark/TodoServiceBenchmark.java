@@ -0,0 +1,104 @@
+package com.shai.to_do.benchmark;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.ToDoApplication;
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.dto.TodoDTO;
+import com.shai.to_do.dto.response.AddResponseDTO;
+import com.shai.to_do.dto.response.CountByStatusResponseDTO;
+import com.shai.to_do.dto.response.GetContentResponseDTO;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.exception.DueDateExpiredException;
+import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.service.TodoService;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int storeSize;
+
+    @Param({"HEAP", "COLUMNAR"})
+    String engine;
+
+    ConfigurableApplicationContext applicationContext;
+    TodoService todoService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(ToDoApplication.class).run(
+                "--server.port=0",
+                "--todo.storage.engine=" + engine,
+                "--todo.wal.enabled=false",
+                "--todo.late-scheduler.enabled=false");
+        Configurator.setLevel("request-logger", org.apache.logging.log4j.Level.ERROR);
+        Configurator.setLevel("todo-logger", org.apache.logging.log4j.Level.ERROR);
+        TodoFixtures.fill(applicationContext.getBean(TodoRepository.class), storeSize);
+        applicationContext.getBean(Context.class).setIdCounter(storeSize);
+        todoService = applicationContext.getBean(TodoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Titles {
+        String prefix;
+        long next;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            prefix = "bench-" + threadParams.getThreadIndex() + "-";
+        }
+
+        String nextTitle() {
+            return prefix + next++;
+        }
+    }
+
+    @Benchmark
+    public int addThenDeleteById(Titles titles)
+            throws TodoAlreadyExistsException, DueDateExpiredException, ResourceNotFoundException {
+        AddResponseDTO added = todoService.add(new TodoDTO(titles.nextTitle(), "content",
+                System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+        return todoService.deleteById(added.getResult()).getResult();
+    }
+
+    @Benchmark
+    public CountByStatusResponseDTO countByStatus() throws BadRequestException {
+        return todoService.countByStatus(Status.PENDING, tag -> false);
+    }
+
+    @Benchmark
+    public GetContentResponseDTO getTodoContentSortedById() throws BadRequestException {
+        return todoService.getTodoContentByStatusSortedByField(Status.PENDING, Optional.of(SortBy.ID), Optional.empty(), Optional.empty(), tag -> false);
+    }
+
+    @Benchmark
+    public GetContentResponseDTO getTodoContentSortedByDueDate() throws BadRequestException {
+        return todoService.getTodoContentByStatusSortedByField(Status.PENDING, Optional.of(SortBy.DUE_DATE), Optional.empty(), Optional.empty(), tag -> false);
+    }
+
+    @Benchmark
+    public GetContentResponseDTO getTodoContentSortedByTitle() throws BadRequestException {
+        return todoService.getTodoContentByStatusSortedByField(Status.PENDING, Optional.of(SortBy.TITLE), Optional.empty(), Optional.empty(), tag -> false);
+    }
+}
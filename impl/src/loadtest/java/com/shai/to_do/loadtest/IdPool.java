@@ -0,0 +1,34 @@
+package com.shai.to_do.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class IdPool {
+    private int[] ids = new int[1024];
+    private int size;
+
+    synchronized void add(int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    synchronized int pick(SplittableRandom random) {
+        return size == 0 ? -1 : ids[random.nextInt(size)];
+    }
+
+    synchronized int take(SplittableRandom random) {
+        if (size == 0) {
+            return -1;
+        }
+        int index = random.nextInt(size);
+        int id = ids[index];
+        ids[index] = ids[--size];
+        return id;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,274 @@
+package com.shai.to_do.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int PRELOAD_CHUNK = 1_000;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+    private final IdPool ids = new IdPool();
+    private final SplittableRandom random = new SplittableRandom();
+    private final Semaphore inFlight;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong titleCounter = new AtomicLong();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final Queue<Arrival> backlog = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlogCount = new AtomicInteger();
+    private final AtomicInteger peakBacklog = new AtomicInteger();
+
+    public LoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        List<Operation> weighted = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            stats.put(operation, new OperationStats());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        weightedOperations = weighted.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        new LoadGenerator(LoadTestOptions.parse(args)).run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        preload();
+        System.out.printf("Offering %d req/s to %s for %ds after %ds warmup, mix %s%n",
+                options.rate(), options.baseUrl(), options.durationSeconds(), options.warmupSeconds(), options.mix());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmupSeconds() * NANOS_PER_SECOND;
+        long end = measureFrom + options.durationSeconds() * NANOS_PER_SECOND;
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * NANOS_PER_SECOND / options.rate();
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            dispatch(weightedOperations[random.nextInt(weightedOperations.length)], intendedStart, intendedStart >= measureFrom);
+        }
+        if (!awaitQuiescence(TimeUnit.SECONDS.toNanos(60))) {
+            System.out.println("Gave up waiting for " + (options.maxInFlight() - inFlight.availablePermits())
+                    + " in-flight and " + backlogCount.get() + " queued requests");
+        }
+        report(Math.max(lastCompletionNanos.get(), end) - measureFrom);
+    }
+
+    private void preload() throws IOException, InterruptedException {
+        for (int loaded = 0; loaded < options.preload(); loaded += PRELOAD_CHUNK) {
+            List<Map<String, Object>> todos = new ArrayList<>();
+            for (int i = loaded; i < Math.min(options.preload(), loaded + PRELOAD_CHUNK); i++) {
+                todos.add(newTodo());
+            }
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/todo/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(todos)))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Preload failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode item : objectMapper.readTree(response.body()).get("result")) {
+                if (item.hasNonNull("result")) {
+                    ids.add(item.get("result").asInt());
+                }
+            }
+        }
+        System.out.println("Preloaded " + ids.size() + " todos");
+    }
+
+    private void dispatch(Operation operation, long intendedStart, boolean measured) {
+        HttpRequest request = request(operation);
+        if (request == null) {
+            if (measured) {
+                stats.get(operation).recordError("no todo id available");
+            }
+            return;
+        }
+        Arrival arrival = new Arrival(operation, request, intendedStart, measured);
+        if (backlog.isEmpty() && inFlight.tryAcquire()) {
+            send(arrival);
+            return;
+        }
+        backlog.add(arrival);
+        int queued = backlogCount.incrementAndGet();
+        if (measured) {
+            peakBacklog.accumulateAndGet(queued, Math::max);
+        }
+        drainBacklog();
+    }
+
+    private void drainBacklog() {
+        while (!backlog.isEmpty() && inFlight.tryAcquire()) {
+            Arrival arrival = backlog.poll();
+            if (arrival == null) {
+                inFlight.release();
+                return;
+            }
+            backlogCount.decrementAndGet();
+            send(arrival);
+        }
+    }
+
+    private boolean awaitQuiescence(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (inFlight.tryAcquire(options.maxInFlight(), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            if (backlog.isEmpty()) {
+                return true;
+            }
+            inFlight.release(options.maxInFlight());
+            drainBacklog();
+        }
+        return false;
+    }
+
+    private void send(Arrival arrival) {
+        Operation operation = arrival.operation();
+        OperationStats operationStats = stats.get(operation);
+        long intendedStart = arrival.intendedStart();
+        boolean measured = arrival.measured();
+        int current = inFlightCount.incrementAndGet();
+        if (measured) {
+            peakInFlight.accumulateAndGet(current, Math::max);
+        }
+        long sent = System.nanoTime();
+        client.sendAsync(arrival.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long completed = System.nanoTime();
+            try {
+                if (failure == null && response.statusCode() / 100 == 2) {
+                    if (operation == Operation.ADD) {
+                        ids.add(objectMapper.readTree(response.body()).get("result").asInt());
+                    }
+                    if (measured) {
+                        operationStats.recordSuccess(intendedStart, sent, completed);
+                    }
+                } else if (measured) {
+                    operationStats.recordError(failure == null ? "HTTP " + response.statusCode() : describe(failure),
+                            intendedStart, sent, completed);
+                }
+            } catch (IOException e) {
+                if (measured) {
+                    operationStats.recordError(describe(e), intendedStart, sent, completed);
+                }
+            } finally {
+                lastCompletionNanos.accumulateAndGet(completed, Math::max);
+                inFlightCount.decrementAndGet();
+                inFlight.release();
+                drainBacklog();
+            }
+        });
+    }
+
+    private HttpRequest request(Operation operation) {
+        try {
+            return switch (operation) {
+                case ADD -> HttpRequest.newBuilder(uri("/todo"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(newTodo())))
+                        .build();
+                case SIZE -> HttpRequest.newBuilder(uri("/todo/size?status=" + Status.ALL)).GET().build();
+                case CONTENT -> HttpRequest.newBuilder(uri("/todo/content?status=" + Status.ALL + "&sortBy=" + SortBy.ID
+                        + "&limit=" + options.contentLimit())).GET().build();
+                case UPDATE -> {
+                    int id = ids.pick(random);
+                    String status = random.nextBoolean() ? Status.DONE : Status.PENDING;
+                    yield id < 0 ? null : HttpRequest.newBuilder(uri("/todo?id=" + id + "&status=" + status))
+                            .PUT(HttpRequest.BodyPublishers.noBody()).build();
+                }
+                case DELETE -> {
+                    int id = ids.take(random);
+                    yield id < 0 ? null : HttpRequest.newBuilder(uri("/todo?id=" + id)).DELETE().build();
+                }
+            };
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<String, Object> newTodo() {
+        Map<String, Object> todo = new LinkedHashMap<>();
+        todo.put("title", "load-" + runId + "-" + titleCounter.incrementAndGet());
+        todo.put("content", "generated by LoadGenerator");
+        todo.put("dueDate", System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1 + random.nextInt(365)));
+        return todo;
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.baseUrl() + path);
+    }
+
+    private static String describe(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause.getClass().getSimpleName();
+    }
+
+    private void report(long measuredNanos) {
+        double seconds = (double) measuredNanos / NANOS_PER_SECOND;
+        long totalOk = 0;
+        long totalErrors = 0;
+        System.out.printf("%nMeasured window %.1fs. Latency in ms, from intended start (corrected) and from send (service).%n", seconds);
+        System.out.printf("%-8s %9s %8s %9s %9s %9s %9s %9s %9s%n", "op", "ok", "errors", "ok/s", "p50", "p90", "p99", "p99.9", "max");
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            long ok = operationStats.succeeded.sum();
+            long errors = operationStats.errorCount();
+            totalOk += ok;
+            totalErrors += errors;
+            printRow(String.format("%-8s %9d %8d %9.1f", entry.getKey(), ok, errors, ok / seconds),
+                    operationStats.correctedLatency.snapshot());
+            printRow(String.format("%-8s %9s %8s %9s", "  svc", "", "", ""), operationStats.serviceTime.snapshot());
+        }
+        System.out.printf("%-8s %9d %8d %9.1f  (offered %d req/s)%n", "total", totalOk, totalErrors, totalOk / seconds, options.rate());
+        System.out.println("Peak in-flight requests (one connection each): " + peakInFlight.get());
+        System.out.println("Peak arrivals queued for a connection (included in corrected latency): " + peakBacklog.get());
+        if (totalErrors > 0) {
+            System.out.println("\nErrors:");
+            stats.forEach((operation, operationStats) -> operationStats.errors().forEach((kind, count) ->
+                    System.out.printf("  %-8s %-32s %d%n", operation, kind, count)));
+        }
+    }
+
+    private static void printRow(String prefix, LatencyHistogram.Snapshot snapshot) {
+        StringBuilder row = new StringBuilder(prefix);
+        for (double quantile : QUANTILES) {
+            row.append(String.format(" %9.2f", snapshot.quantileNanos(quantile) / 1e6));
+        }
+        row.append(String.format(" %9.2f", snapshot.maxNanos() / 1e6));
+        System.out.println(row);
+    }
+
+    private record Arrival(Operation operation, HttpRequest request, long intendedStart, boolean measured) {}
+}
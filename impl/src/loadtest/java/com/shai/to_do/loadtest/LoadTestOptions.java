@@ -0,0 +1,58 @@
+package com.shai.to_do.loadtest;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+record LoadTestOptions(String baseUrl,
+                       int rate,
+                       int durationSeconds,
+                       int warmupSeconds,
+                       int preload,
+                       int contentLimit,
+                       int maxInFlight,
+                       Map<Operation, Integer> mix) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                values.getOrDefault("baseUrl", "http://localhost:9583"),
+                positive(values, "rate", 200),
+                positive(values, "duration", 30),
+                Integer.parseInt(values.getOrDefault("warmup", "5")),
+                Integer.parseInt(values.getOrDefault("preload", "1000")),
+                positive(values, "contentLimit", 100),
+                positive(values, "maxInFlight", 2000),
+                parseMix(values.getOrDefault("mix", "add=30,size=20,content=20,update=20,delete=10")));
+    }
+
+    private static int positive(Map<String, String> values, String key, int defaultValue) {
+        int value = Integer.parseInt(values.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value < 1) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+        return value;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
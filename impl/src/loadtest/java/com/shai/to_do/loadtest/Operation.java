@@ -0,0 +1,5 @@
+package com.shai.to_do.loadtest;
+
+enum Operation {
+    ADD, SIZE, CONTENT, UPDATE, DELETE
+}
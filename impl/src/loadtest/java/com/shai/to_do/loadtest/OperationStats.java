@@ -0,0 +1,41 @@
+package com.shai.to_do.loadtest;
+
+import com.shai.to_do.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class OperationStats {
+    final LatencyHistogram correctedLatency = new LatencyHistogram();
+    final LatencyHistogram serviceTime = new LatencyHistogram();
+    final LongAdder succeeded = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordSuccess(long intendedStartNanos, long sentNanos, long completedNanos) {
+        correctedLatency.record(completedNanos - intendedStartNanos);
+        serviceTime.record(completedNanos - sentNanos);
+        succeeded.increment();
+    }
+
+    void recordError(String kind, long intendedStartNanos, long sentNanos, long completedNanos) {
+        correctedLatency.record(completedNanos - intendedStartNanos);
+        serviceTime.record(completedNanos - sentNanos);
+        recordError(kind);
+    }
+
+    void recordError(String kind) {
+        errors.computeIfAbsent(kind, key -> new LongAdder()).increment();
+    }
+
+    Map<String, Long> errors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((kind, count) -> counts.put(kind, count.sum()));
+        return counts;
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
@@ -1,48 +1,65 @@
 package com.shai.to_do;
 
-import lombok.Setter;
 import org.apache.logging.log4j.ThreadContext;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Component
-@Setter
 public class Context {
-    private int idCounter;
-    private int requestCounter;
-    private long currentRequestStartTime;
+    private final AtomicInteger idCounter;
+    private final AtomicInteger requestCounter;
+    private final ThreadLocal<RequestInfo> currentRequest;
 
     public Context() {
-        idCounter = 0;
-        requestCounter = 0;
+        idCounter = new AtomicInteger();
+        requestCounter = new AtomicInteger();
+        currentRequest = ThreadLocal.withInitial(() -> new RequestInfo(0, System.nanoTime()));
     }
 
     public int getIdCounterAndIncrement() {
-        idCounter++;
-        return idCounter;
+        return idCounter.incrementAndGet();
+    }
+
+    public int reserveIds(int count) {
+        return idCounter.getAndAdd(count) + 1;
     }
 
     public int getIdCounter() {
-        return idCounter;
+        return idCounter.get();
+    }
+
+    public void setIdCounter(int idCounter) {
+        this.idCounter.set(idCounter);
     }
+
     public void initLogsInfo() {
-        setCurrentRequestStartTime(System.currentTimeMillis());
-        incrementRequestCounter();
-        ThreadContext.put("requestCounter", String.valueOf(requestCounter));
+        int requestNumber = requestCounter.incrementAndGet();
+        currentRequest.set(new RequestInfo(requestNumber, System.nanoTime()));
+        ThreadContext.put("requestCounter", String.valueOf(requestNumber));
     }
 
-    private void incrementRequestCounter() {
-        requestCounter++;
+    public void clearLogsInfo() {
+        currentRequest.remove();
+        ThreadContext.remove("requestCounter");
     }
 
     public int getRequestCounter() {
-        return requestCounter;
+        return currentRequest.get().requestNumber();
+    }
+
+    public long getCurrentRequestStartNanos() {
+        return currentRequest.get().startNanos();
     }
 
-    private void setCurrentRequestStartTime(long currentRequestStartTime) {
-        this.currentRequestStartTime = currentRequestStartTime;
+    public long getCurrentRequestDurationNanos() {
+        return System.nanoTime() - getCurrentRequestStartNanos();
     }
 
-    public long getCurrentRequestStartTime() {
-        return currentRequestStartTime;
+    public long getCurrentRequestDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(getCurrentRequestDurationNanos());
     }
+
+    private record RequestInfo(int requestNumber, long startNanos) {}
 }
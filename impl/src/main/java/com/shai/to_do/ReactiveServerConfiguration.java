@@ -0,0 +1,24 @@
+package com.shai.to_do;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+            @Value("${todo.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        if (eventLoopThreads > 0) {
+            LoopResources loopResources = LoopResources.create("todo-event-loop", eventLoopThreads, true);
+            factory.addServerCustomizers(server -> server.runOn(loopResources));
+        }
+        return factory;
+    }
+}
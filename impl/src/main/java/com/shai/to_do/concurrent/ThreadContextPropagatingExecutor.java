@@ -0,0 +1,27 @@
+package com.shai.to_do.concurrent;
+
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+public class ThreadContextPropagatingExecutor implements Executor {
+    private final Executor delegate;
+
+    public ThreadContextPropagatingExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Map<String, String> context = ThreadContext.getImmutableContext();
+        delegate.execute(() -> {
+            ThreadContext.putAll(context);
+            try {
+                task.run();
+            } finally {
+                ThreadContext.clearMap();
+            }
+        });
+    }
+}
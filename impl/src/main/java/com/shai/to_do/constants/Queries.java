@@ -11,5 +11,13 @@ public class Queries {
 
     public static final String UPDATE = "UPDATE";
 
+    public static final String ADD_BATCH = "ADD_BATCH";
+
+    public static final String BULK = "BULK";
+
+    public static final String SEARCH = "SEARCH";
+
+    public static final String TITLES = "TITLES";
+
     public static final String EXCEPTION = "EXCEPTION";
 }
@@ -3,8 +3,12 @@ package com.shai.to_do.constants;
 public class Resources {
     private static final String BASE_URL = "/todo";
 
+    public static final String HEALTH = BASE_URL + "/health";
+
     public static final String ADD = BASE_URL;
 
+    public static final String ADD_BATCH = BASE_URL + "/batch";
+
     public static final String COUNT_BY_STATUS = BASE_URL + "/size";
 
     public static final String GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD = BASE_URL + "/content";
@@ -13,7 +17,21 @@ public class Resources {
 
     public static final String DELETE_TODO = BASE_URL;
 
+    public static final String BULK_UPDATE_STATUS = BASE_URL + "/bulk";
+
+    public static final String BULK_DELETE = BASE_URL + "/bulk";
+
+    public static final String SEARCH = BASE_URL + "/search";
+
+    public static final String GET_TITLES_BY_PREFIX = BASE_URL + "/titles";
+
     public static final String GET_LOGGER_LEVEL = "/logs/level";
 
     public static final String SET_LOGGER_LEVEL = "/logs/level";
+
+    public static final String GET_LOGGING_STATS = "/logs/stats";
+
+    public static final String GET_RECENT_REQUESTS = "/logs/recent";
+
+    public static final String METRICS = "/metrics";
 }
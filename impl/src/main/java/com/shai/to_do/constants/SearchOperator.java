@@ -0,0 +1,7 @@
+package com.shai.to_do.constants;
+
+public class SearchOperator {
+    public static final String AND = "AND";
+
+    public static final String OR = "OR";
+}
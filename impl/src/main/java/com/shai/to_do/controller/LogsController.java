@@ -1,12 +1,16 @@
 package com.shai.to_do.controller;
 
+import com.shai.to_do.dto.response.LoggingStatsDTO;
+import com.shai.to_do.dto.response.RecentRequestsDTO;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.service.LogsService;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
-@RequestMapping("/logs/level")
+@RequestMapping("/logs")
 public class LogsController {
 
     private final LogsService logsService;
@@ -15,15 +19,29 @@ public class LogsController {
         this.logsService = logsService;
     }
 
-    @GetMapping
+    @GetMapping("/level")
     public String getLogLevel(@RequestParam("logger-name") String loggerName) throws ResourceNotFoundException {
         return logsService.getLogLevel(loggerName);
     }
 
-    @PutMapping
+    @PutMapping("/level")
     public String changeLogLevel(@RequestParam("logger-name") String loggerName,
                                  @RequestParam("logger-level") String loggerLevel)
             throws BadRequestException, ResourceNotFoundException {
         return logsService.changeLogLevel(loggerName, loggerLevel);
     }
+
+    @GetMapping("/stats")
+    public LoggingStatsDTO getLoggingStats() {
+        return logsService.getLoggingStats();
+    }
+
+    @GetMapping("/recent")
+    public RecentRequestsDTO getRecentRequests(@RequestParam Optional<String> resource,
+                                               @RequestParam Optional<String> verb,
+                                               @RequestParam Optional<Integer> status,
+                                               @RequestParam Optional<Long> minDurationNanos,
+                                               @RequestParam(defaultValue = "100") int limit) throws BadRequestException {
+        return logsService.getRecentRequests(resource, verb, status, minDurationNanos, limit);
+    }
 }
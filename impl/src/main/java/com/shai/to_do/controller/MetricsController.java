@@ -0,0 +1,21 @@
+package com.shai.to_do.controller;
+
+import com.shai.to_do.service.MetricsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+    private static final String TEXT_EXPOSITION = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsService metricsService;
+
+    public MetricsController(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    @GetMapping(value = "/metrics", produces = TEXT_EXPOSITION)
+    public String getMetrics() {
+        return metricsService.scrape();
+    }
+}
@@ -0,0 +1,119 @@
+package com.shai.to_do.controller;
+
+import com.shai.to_do.constants.SearchOperator;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.dto.TodoDTO;
+import com.shai.to_do.dto.response.*;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
+import com.shai.to_do.service.ReactiveTodoService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/todo")
+public class ReactiveTodoController {
+
+    private final ReactiveTodoService reactiveTodoService;
+
+    public ReactiveTodoController(ReactiveTodoService reactiveTodoService) {
+        this.reactiveTodoService = reactiveTodoService;
+    }
+
+    @GetMapping("/health")
+    public Mono<String> health() {
+        return Mono.just("OK");
+    }
+
+    @PostMapping
+    public Mono<AddResponseDTO> add(@RequestBody TodoDTO todoDTO) {
+        return reactiveTodoService.add(todoDTO);
+    }
+
+    @PostMapping("/batch")
+    public Mono<BatchAddResponseDTO> addBatch(@RequestBody List<TodoDTO> todoDTOs) {
+        return reactiveTodoService.addBatch(todoDTOs);
+    }
+
+    @GetMapping("/size")
+    public Mono<CountByStatusResponseDTO> countByStatus(@RequestParam String status, ServerWebExchange exchange) {
+        return reactiveTodoService.countByStatus(status, exchange::checkNotModified);
+    }
+
+    @GetMapping("/content")
+    public Mono<GetContentResponseDTO> getTodoContentByStatusSortedByField(@RequestParam String status,
+                                                                           @RequestParam Optional<String> sortBy,
+                                                                           @RequestParam Optional<Integer> limit,
+                                                                           @RequestParam Optional<String> cursor,
+                                                                           ServerWebExchange exchange) {
+        return reactiveTodoService.getTodoContentByStatusSortedByField(status, sortBy, limit, cursor,
+                representationNotModified(exchange, MediaType.APPLICATION_JSON));
+    }
+
+    @GetMapping(value = "/content", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Todo> streamTodoContentByStatusSortedByField(@RequestParam String status,
+                                                             @RequestParam Optional<String> sortBy,
+                                                             ServerWebExchange exchange) {
+        return reactiveTodoService.streamTodoContentByStatusSortedByField(status, sortBy,
+                representationNotModified(exchange, MediaType.APPLICATION_NDJSON));
+    }
+
+    @GetMapping("/search")
+    public Mono<SearchResponseDTO> search(@RequestParam String q,
+                                          @RequestParam(defaultValue = SearchOperator.AND) String operator,
+                                          @RequestParam(defaultValue = Status.ALL) String status,
+                                          @RequestParam(defaultValue = "20") Integer limit,
+                                          ServerWebExchange exchange) {
+        return reactiveTodoService.search(q, operator, status, limit, exchange::checkNotModified);
+    }
+
+    @GetMapping("/titles")
+    public Mono<TitlesResponseDTO> getTitlesByPrefix(@RequestParam(defaultValue = "") String prefix,
+                                                     @RequestParam(defaultValue = "10") Integer limit,
+                                                     ServerWebExchange exchange) {
+        return reactiveTodoService.getTitlesByPrefix(prefix, limit, exchange::checkNotModified);
+    }
+
+    @PutMapping
+    public Mono<UpdateStatusResponseDTO> updateStatus(@RequestParam Integer id, @RequestParam String status) {
+        return reactiveTodoService.updateStatus(id, status);
+    }
+
+    @PutMapping("/bulk")
+    public Mono<BulkResponseDTO> updateStatusWhere(@RequestParam String newStatus,
+                                                   @RequestParam(defaultValue = Status.ALL) String status,
+                                                   @RequestParam Optional<Long> dueFrom,
+                                                   @RequestParam Optional<Long> dueTo,
+                                                   @RequestParam Optional<Set<Integer>> ids) {
+        return reactiveTodoService.updateStatusWhere(TodoFilter.of(status, dueFrom, dueTo, ids), newStatus);
+    }
+
+    @DeleteMapping("/bulk")
+    public Mono<BulkResponseDTO> deleteWhere(@RequestParam(defaultValue = Status.ALL) String status,
+                                             @RequestParam Optional<Long> dueFrom,
+                                             @RequestParam Optional<Long> dueTo,
+                                             @RequestParam Optional<Set<Integer>> ids) {
+        return reactiveTodoService.deleteWhere(TodoFilter.of(status, dueFrom, dueTo, ids));
+    }
+
+    @DeleteMapping
+    public Mono<DeleteResponseDTO> deleteTodo(@RequestParam Integer id) {
+        return reactiveTodoService.deleteById(id);
+    }
+
+    private static Predicate<String> representationNotModified(ServerWebExchange exchange, MediaType mediaType) {
+        exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return versionTag -> exchange.checkNotModified(versionTag + "-" + mediaType.getSubtype());
+    }
+}
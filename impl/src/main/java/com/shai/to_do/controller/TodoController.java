@@ -1,5 +1,7 @@
 package com.shai.to_do.controller;
 
+import com.shai.to_do.constants.SearchOperator;
+import com.shai.to_do.constants.Status;
 import com.shai.to_do.dto.TodoDTO;
 import com.shai.to_do.dto.response.*;
 import com.shai.to_do.entity.Todo;
@@ -7,13 +9,24 @@ import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.service.TodoService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/todo")
 public class TodoController {
 
@@ -33,15 +46,56 @@ public class TodoController {
         return todoService.add(todoDTO);
     }
 
+    @PostMapping("/batch")
+    public BatchAddResponseDTO addBatch(@RequestBody List<TodoDTO> todoDTOs) throws BadRequestException {
+        return todoService.addBatch(todoDTOs);
+    }
+
     @GetMapping("/size")
-    public CountByStatusResponseDTO countByStatus(@RequestParam String status) throws BadRequestException {
-        return todoService.countByStatus(status);
+    public CountByStatusResponseDTO countByStatus(@RequestParam String status, WebRequest webRequest) throws BadRequestException {
+        return todoService.countByStatus(status, webRequest::checkNotModified);
     }
 
     @GetMapping("/content")
     public GetContentResponseDTO getTodoContentByStatusSortedByField(@RequestParam String status,
-                                                                     @RequestParam Optional<String> sortBy) throws BadRequestException {
-        return todoService.getTodoContentByStatusSortedByField(status, sortBy);
+                                                                     @RequestParam Optional<String> sortBy,
+                                                                     @RequestParam Optional<Integer> limit,
+                                                                     @RequestParam Optional<String> cursor,
+                                                                     WebRequest webRequest,
+                                                                     HttpServletResponse response) throws BadRequestException {
+        return todoService.getTodoContentByStatusSortedByField(status, sortBy, limit, cursor,
+                representationNotModified(webRequest, response, MediaType.APPLICATION_JSON));
+    }
+
+    @GetMapping(value = "/content", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTodoContentByStatusSortedByField(@RequestParam String status,
+                                                                                        @RequestParam Optional<String> sortBy,
+                                                                                        WebRequest webRequest,
+                                                                                        HttpServletResponse response) throws BadRequestException {
+        StreamingResponseBody body = todoService.streamTodoContentByStatusSortedByField(status, sortBy,
+                representationNotModified(webRequest, response, MediaType.APPLICATION_NDJSON));
+        if (body == null) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public SearchResponseDTO search(@RequestParam String q,
+                                    @RequestParam(defaultValue = SearchOperator.AND) String operator,
+                                    @RequestParam(defaultValue = Status.ALL) String status,
+                                    @RequestParam(defaultValue = "20") Integer limit,
+                                    WebRequest webRequest) throws BadRequestException {
+        return todoService.search(q, operator, status, limit, webRequest::checkNotModified);
+    }
+
+    @GetMapping("/titles")
+    public TitlesResponseDTO getTitlesByPrefix(@RequestParam(defaultValue = "") String prefix,
+                                               @RequestParam(defaultValue = "10") Integer limit,
+                                               WebRequest webRequest) throws BadRequestException {
+        return todoService.getTitlesByPrefix(prefix, limit, webRequest::checkNotModified);
     }
 
     @PutMapping
@@ -50,9 +104,30 @@ public class TodoController {
         return todoService.updateStatus(id, status);
     }
 
+    @PutMapping("/bulk")
+    public BulkResponseDTO updateStatusWhere(@RequestParam String newStatus,
+                                             @RequestParam(defaultValue = Status.ALL) String status,
+                                             @RequestParam Optional<Long> dueFrom,
+                                             @RequestParam Optional<Long> dueTo,
+                                             @RequestParam Optional<Set<Integer>> ids) throws BadRequestException {
+        return todoService.updateStatusWhere(TodoFilter.of(status, dueFrom, dueTo, ids), newStatus);
+    }
+
+    @DeleteMapping("/bulk")
+    public BulkResponseDTO deleteWhere(@RequestParam(defaultValue = Status.ALL) String status,
+                                       @RequestParam Optional<Long> dueFrom,
+                                       @RequestParam Optional<Long> dueTo,
+                                       @RequestParam Optional<Set<Integer>> ids) throws BadRequestException {
+        return todoService.deleteWhere(TodoFilter.of(status, dueFrom, dueTo, ids));
+    }
+
     @DeleteMapping
     public DeleteResponseDTO deleteTodo(@RequestParam Integer id) throws ResourceNotFoundException {
         return todoService.deleteById(id);
     }
 
+    private static Predicate<String> representationNotModified(WebRequest webRequest, HttpServletResponse response, MediaType mediaType) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return versionTag -> webRequest.checkNotModified(versionTag + "-" + mediaType.getSubtype());
+    }
 }
@@ -0,0 +1,6 @@
+package com.shai.to_do.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchAddItemDTO(Integer result, String errorMessage) {}
@@ -0,0 +1,13 @@
+package com.shai.to_do.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchAddResponseDTO implements ResponseDTO {
+    private int added;
+    private List<BatchAddItemDTO> result;
+}
@@ -0,0 +1,10 @@
+package com.shai.to_do.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkResponseDTO implements ResponseDTO {
+    private int result;
+}
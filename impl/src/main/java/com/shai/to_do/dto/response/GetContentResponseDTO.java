@@ -1,5 +1,6 @@
 package com.shai.to_do.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.shai.to_do.entity.Todo;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,4 +11,7 @@ import java.util.List;
 @Setter
 public class GetContentResponseDTO implements ResponseDTO {
     private List<Todo> result;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
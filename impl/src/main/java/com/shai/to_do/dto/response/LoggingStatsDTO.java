@@ -0,0 +1,8 @@
+package com.shai.to_do.dto.response;
+
+import java.util.List;
+
+public record LoggingStatsDTO(List<AppenderQueueDTO> queues, long droppedEvents) {
+
+    public record AppenderQueueDTO(String appender, int capacity, int depth) {}
+}
@@ -0,0 +1,7 @@
+package com.shai.to_do.dto.response;
+
+import com.shai.to_do.logging.RecentRequestsBuffer;
+
+import java.util.List;
+
+public record RecentRequestsDTO(int capacity, List<RecentRequestsBuffer.RequestRecord> requests) {}
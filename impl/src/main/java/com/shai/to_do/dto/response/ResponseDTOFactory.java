@@ -8,10 +8,14 @@ public class ResponseDTOFactory {
     public ResponseDTO getResponseDTO(String queryType) {
         return switch(queryType) {
             case Queries.ADD -> new AddResponseDTO();
+            case Queries.ADD_BATCH -> new BatchAddResponseDTO();
             case Queries.COUNT -> new CountByStatusResponseDTO();
             case Queries.DELETE -> new DeleteResponseDTO();
             case Queries.GET -> new GetContentResponseDTO();
             case Queries.UPDATE -> new UpdateStatusResponseDTO();
+            case Queries.BULK -> new BulkResponseDTO();
+            case Queries.SEARCH -> new SearchResponseDTO();
+            case Queries.TITLES -> new TitlesResponseDTO();
             default -> new ExceptionDTO();
         };
     }
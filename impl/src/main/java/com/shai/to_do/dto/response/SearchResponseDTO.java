@@ -0,0 +1,14 @@
+package com.shai.to_do.dto.response;
+
+import com.shai.to_do.entity.Todo;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class SearchResponseDTO implements ResponseDTO {
+    private List<Todo> result;
+    private int total;
+}
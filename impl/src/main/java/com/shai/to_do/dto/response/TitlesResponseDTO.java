@@ -0,0 +1,12 @@
+package com.shai.to_do.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TitlesResponseDTO implements ResponseDTO {
+    private List<String> result;
+}
@@ -1,5 +1,6 @@
 package com.shai.to_do.exception.handler;
 
+import com.shai.to_do.Context;
 import com.shai.to_do.constants.Queries;
 import com.shai.to_do.dto.response.ExceptionDTO;
 import com.shai.to_do.dto.response.ResponseDTOFactory;
@@ -7,8 +8,12 @@ import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.metrics.RequestMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -17,15 +22,32 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestControllerAdvice(basePackages = {"com.shai.to_do.controller"})
 public class ControllerAdvice {
 
     private final ResponseDTOFactory responseDTOFactory;
 
+    private final Context context;
+
+    private final RecentRequestsBuffer recentRequestsBuffer;
+
+    private final RequestMetrics requestMetrics;
+
+    private final HttpServletRequest request;
+
     private static final Logger logger = LogManager.getLogger("todo-logger");
 
-    public ControllerAdvice(ResponseDTOFactory responseDTOFactory) {
+    public ControllerAdvice(ResponseDTOFactory responseDTOFactory,
+                            Context context,
+                            RecentRequestsBuffer recentRequestsBuffer,
+                            RequestMetrics requestMetrics,
+                            HttpServletRequest request) {
         this.responseDTOFactory = responseDTOFactory;
+        this.context = context;
+        this.recentRequestsBuffer = recentRequestsBuffer;
+        this.requestMetrics = requestMetrics;
+        this.request = request;
     }
 
     @ExceptionHandler(TodoAlreadyExistsException.class)
@@ -33,6 +55,8 @@ public class ControllerAdvice {
         ExceptionDTO exceptionDTO = (ExceptionDTO) responseDTOFactory.getResponseDTO(Queries.EXCEPTION);
         exceptionDTO.setErrorMessage(ex.getMessage());
         logger.error(ex.getMessage());
+        requestMetrics.recordError(TodoAlreadyExistsException.class);
+        recordRequest(HttpStatus.CONFLICT);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionDTO);
     }
 
@@ -41,11 +65,15 @@ public class ControllerAdvice {
         ExceptionDTO exceptionDTO = (ExceptionDTO) responseDTOFactory.getResponseDTO(Queries.EXCEPTION);
         exceptionDTO.setErrorMessage(ex.getMessage());
         logger.error(ex.getMessage());
+        requestMetrics.recordError(DueDateExpiredException.class);
+        recordRequest(HttpStatus.CONFLICT);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionDTO);
     }
 
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ExceptionDTO> handleBadRequestException() {
+        requestMetrics.recordError(BadRequestException.class);
+        recordRequest(HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
     }
 
@@ -54,6 +82,21 @@ public class ControllerAdvice {
         ExceptionDTO exceptionDTO = (ExceptionDTO) responseDTOFactory.getResponseDTO(Queries.EXCEPTION);
         exceptionDTO.setErrorMessage(ex.getMessage());
         logger.error(ex.getMessage());
+        requestMetrics.recordError(ResourceNotFoundException.class);
+        recordRequest(HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exceptionDTO);
     }
+
+    private void recordRequest(HttpStatus status) {
+        recentRequestsBuffer.record(context.getRequestCounter(), request.getRequestURI(), request.getMethod(),
+                status.value(), context.getCurrentRequestDurationNanos(), todoId());
+    }
+
+    private int todoId() {
+        try {
+            return Integer.parseInt(request.getParameter("id"));
+        } catch (NumberFormatException e) {
+            return RecentRequestsBuffer.NO_TODO_ID;
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.shai.to_do.exception.handler;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.constants.Queries;
+import com.shai.to_do.dto.response.ExceptionDTO;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.exception.DueDateExpiredException;
+import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.metrics.ReactiveRequestMetricsFilter;
+import com.shai.to_do.metrics.RequestMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestControllerAdvice(basePackages = {"com.shai.to_do.controller"})
+public class ReactiveControllerAdvice {
+
+    private final ResponseDTOFactory responseDTOFactory;
+
+    private final Context context;
+
+    private final RecentRequestsBuffer recentRequestsBuffer;
+
+    private final RequestMetrics requestMetrics;
+
+    private static final Logger logger = LogManager.getLogger("todo-logger");
+
+    public ReactiveControllerAdvice(ResponseDTOFactory responseDTOFactory,
+                                    Context context,
+                                    RecentRequestsBuffer recentRequestsBuffer,
+                                    RequestMetrics requestMetrics) {
+        this.responseDTOFactory = responseDTOFactory;
+        this.context = context;
+        this.recentRequestsBuffer = recentRequestsBuffer;
+        this.requestMetrics = requestMetrics;
+    }
+
+    @ExceptionHandler(TodoAlreadyExistsException.class)
+    public ResponseEntity<ExceptionDTO> handleTodoAlreadyExistsException(TodoAlreadyExistsException ex, ServerWebExchange exchange) {
+        return handle(ex, HttpStatus.CONFLICT, exchange);
+    }
+
+    @ExceptionHandler(DueDateExpiredException.class)
+    public ResponseEntity<ExceptionDTO> handleDueDateAlreadyPassedException(DueDateExpiredException ex, ServerWebExchange exchange) {
+        return handle(ex, HttpStatus.CONFLICT, exchange);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ExceptionDTO> handleBadRequestException(ServerWebExchange exchange) {
+        requestMetrics.recordError(BadRequestException.class);
+        recordRequest(exchange, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ExceptionDTO> handleResourceNotFoundException(ResourceNotFoundException ex, ServerWebExchange exchange) {
+        return handle(ex, HttpStatus.NOT_FOUND, exchange);
+    }
+
+    private ResponseEntity<ExceptionDTO> handle(Exception ex, HttpStatus status, ServerWebExchange exchange) {
+        ExceptionDTO exceptionDTO = (ExceptionDTO) responseDTOFactory.getResponseDTO(Queries.EXCEPTION);
+        exceptionDTO.setErrorMessage(ex.getMessage());
+        logger.error(ex.getMessage());
+        requestMetrics.recordError(ex.getClass());
+        recordRequest(exchange, status);
+        return ResponseEntity.status(status).body(exceptionDTO);
+    }
+
+    private void recordRequest(ServerWebExchange exchange, HttpStatus status) {
+        Long startNanos = exchange.getAttribute(ReactiveRequestMetricsFilter.START_NANOS_ATTRIBUTE);
+        long durationNanos = startNanos == null ? context.getCurrentRequestDurationNanos() : System.nanoTime() - startNanos;
+        recentRequestsBuffer.record(context.getRequestCounter(), exchange.getRequest().getPath().value(),
+                exchange.getRequest().getMethod().name(), status.value(), durationNanos, todoId(exchange));
+    }
+
+    private int todoId(ServerWebExchange exchange) {
+        try {
+            return Integer.parseInt(exchange.getRequest().getQueryParams().getFirst("id"));
+        } catch (NumberFormatException e) {
+            return RecentRequestsBuffer.NO_TODO_ID;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.shai.to_do.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CountingAsyncQueueFullPolicy implements AsyncQueueFullPolicy {
+    public static final String MODE_PROPERTY = "todo.logging.queue-full-policy";
+
+    private static final LongAdder droppedEvents = new LongAdder();
+
+    private final QueueFullMode mode;
+
+    public CountingAsyncQueueFullPolicy() {
+        this(QueueFullMode.valueOf(PropertiesUtil.getProperties()
+                .getStringProperty(MODE_PROPERTY, QueueFullMode.DROP_DEBUG.name()).trim().toUpperCase()));
+    }
+
+    public CountingAsyncQueueFullPolicy(QueueFullMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public EventRoute getRoute(long backgroundThreadId, Level level) {
+        if (Thread.currentThread().getId() == backgroundThreadId) {
+            return EventRoute.SYNCHRONOUS;
+        }
+        if (mode == QueueFullMode.BLOCK || (mode == QueueFullMode.DROP_DEBUG && level.isMoreSpecificThan(Level.INFO))) {
+            return EventRoute.ENQUEUE;
+        }
+        droppedEvents.increment();
+        return EventRoute.DISCARD;
+    }
+
+    public QueueFullMode getMode() {
+        return mode;
+    }
+
+    public static long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+}
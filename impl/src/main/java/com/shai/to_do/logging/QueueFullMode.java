@@ -0,0 +1,7 @@
+package com.shai.to_do.logging;
+
+public enum QueueFullMode {
+    BLOCK,
+    DROP_DEBUG,
+    DISCARD
+}
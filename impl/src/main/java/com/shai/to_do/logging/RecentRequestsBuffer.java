@@ -0,0 +1,114 @@
+package com.shai.to_do.logging;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+@Component
+public class RecentRequestsBuffer {
+    public static final int NO_TODO_ID = -1;
+
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLongArray slotStates;
+    private final int[] requestNumbers;
+    private final long[] timestamps;
+    private final String[] resources;
+    private final String[] verbs;
+    private final int[] statusCodes;
+    private final long[] durationsNanos;
+    private final int[] todoIds;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RecentRequestsBuffer(@Value("${todo.logging.recent-requests:1024}") int capacity) {
+        this(capacity, System::currentTimeMillis);
+    }
+
+    public RecentRequestsBuffer(int capacity, LongSupplier clock) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mask = size - 1;
+        slotStates = new AtomicLongArray(size);
+        requestNumbers = new int[size];
+        timestamps = new long[size];
+        resources = new String[size];
+        verbs = new String[size];
+        statusCodes = new int[size];
+        durationsNanos = new long[size];
+        todoIds = new int[size];
+        this.clock = clock;
+    }
+
+    public void record(int requestNumber, String resource, String verb, int statusCode, long durationNanos, int todoId) {
+        long sequence = nextSequence.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        long state = slotStates.get(slot);
+        if (isWriting(state) || sequenceOf(state) >= sequence
+                || !slotStates.compareAndSet(slot, state, writing(sequence))) {
+            return;
+        }
+        requestNumbers[slot] = requestNumber;
+        timestamps[slot] = clock.getAsLong();
+        resources[slot] = resource;
+        verbs[slot] = verb;
+        statusCodes[slot] = statusCode;
+        durationsNanos[slot] = durationNanos;
+        todoIds[slot] = todoId;
+        slotStates.setRelease(slot, published(sequence));
+    }
+
+    public List<RequestRecord> recent(int limit, Predicate<RequestRecord> filter) {
+        List<RequestRecord> records = new ArrayList<>(Math.min(limit, mask + 1));
+        long last = nextSequence.get() - 1;
+        for (long sequence = last; sequence >= 0 && sequence > last - (mask + 1) && records.size() < limit; sequence--) {
+            RequestRecord record = read(sequence);
+            if (record != null && filter.test(record)) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private RequestRecord read(long sequence) {
+        int slot = (int) (sequence & mask);
+        long state = slotStates.getAcquire(slot);
+        if (state != published(sequence)) {
+            return null;
+        }
+        RequestRecord record = new RequestRecord(requestNumbers[slot], timestamps[slot], resources[slot], verbs[slot],
+                statusCodes[slot], durationsNanos[slot], todoIds[slot] == NO_TODO_ID ? null : todoIds[slot]);
+        VarHandle.acquireFence();
+        return slotStates.get(slot) == state ? record : null;
+    }
+
+    private static long published(long sequence) {
+        return (sequence + 1) << 1;
+    }
+
+    private static long writing(long sequence) {
+        return published(sequence) | 1;
+    }
+
+    private static boolean isWriting(long state) {
+        return (state & 1) != 0;
+    }
+
+    private static long sequenceOf(long state) {
+        return (state >>> 1) - 1;
+    }
+
+    public record RequestRecord(int requestNumber, long timestamp, String resource, String verb, int status,
+                                long durationNanos, Integer todoId) {}
+}
@@ -16,7 +16,10 @@ public class TodoDTOToTodoEntityMapper {
     }
 
     public Todo map(TodoDTO todoDTO) {
-        Integer id = context.getIdCounterAndIncrement();
+        return map(todoDTO, context.getIdCounterAndIncrement());
+    }
+
+    public Todo map(TodoDTO todoDTO, int id) {
         String title = todoDTO.title();
         String content = todoDTO.content();
         String status = Status.PENDING;
@@ -0,0 +1,25 @@
+package com.shai.to_do.mapper.response;
+
+import com.shai.to_do.constants.Queries;
+import com.shai.to_do.dto.response.BatchAddItemDTO;
+import com.shai.to_do.dto.response.BatchAddResponseDTO;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class BatchAddResponseToBatchAddResponseDTOMapper {
+    private final ResponseDTOFactory responseDTOFactory;
+
+    public BatchAddResponseToBatchAddResponseDTOMapper(ResponseDTOFactory responseDTOFactory) {
+        this.responseDTOFactory = responseDTOFactory;
+    }
+
+    public BatchAddResponseDTO map(List<BatchAddItemDTO> items, int added) {
+        BatchAddResponseDTO batchAddResponseDTO = (BatchAddResponseDTO) responseDTOFactory.getResponseDTO(Queries.ADD_BATCH);
+        batchAddResponseDTO.setAdded(added);
+        batchAddResponseDTO.setResult(items);
+        return batchAddResponseDTO;
+    }
+}
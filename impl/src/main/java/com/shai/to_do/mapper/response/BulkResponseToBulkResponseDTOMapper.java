@@ -0,0 +1,21 @@
+package com.shai.to_do.mapper.response;
+
+import com.shai.to_do.constants.Queries;
+import com.shai.to_do.dto.response.BulkResponseDTO;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BulkResponseToBulkResponseDTOMapper {
+    private final ResponseDTOFactory responseDTOFactory;
+
+    public BulkResponseToBulkResponseDTOMapper(ResponseDTOFactory responseDTOFactory) {
+        this.responseDTOFactory = responseDTOFactory;
+    }
+
+    public BulkResponseDTO map(int affected) {
+        BulkResponseDTO bulkResponseDTO = (BulkResponseDTO) responseDTOFactory.getResponseDTO(Queries.BULK);
+        bulkResponseDTO.setResult(affected);
+        return bulkResponseDTO;
+    }
+}
@@ -21,4 +21,10 @@ public class GetContentResponseToGetContentResponseDTOMapper {
         getContentResponseDTO.setResult(todos);
         return getContentResponseDTO;
     }
+
+    public GetContentResponseDTO map(List<Todo> todos, String nextCursor) {
+        GetContentResponseDTO getContentResponseDTO = map(todos);
+        getContentResponseDTO.setNextCursor(nextCursor);
+        return getContentResponseDTO;
+    }
 }
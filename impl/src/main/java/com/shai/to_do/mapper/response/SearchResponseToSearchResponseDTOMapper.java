@@ -0,0 +1,23 @@
+package com.shai.to_do.mapper.response;
+
+import com.shai.to_do.constants.Queries;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import com.shai.to_do.dto.response.SearchResponseDTO;
+import com.shai.to_do.repository.TodoSearchResult;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchResponseToSearchResponseDTOMapper {
+    private final ResponseDTOFactory responseDTOFactory;
+
+    public SearchResponseToSearchResponseDTOMapper(ResponseDTOFactory responseDTOFactory) {
+        this.responseDTOFactory = responseDTOFactory;
+    }
+
+    public SearchResponseDTO map(TodoSearchResult searchResult) {
+        SearchResponseDTO searchResponseDTO = (SearchResponseDTO) responseDTOFactory.getResponseDTO(Queries.SEARCH);
+        searchResponseDTO.setResult(searchResult.todos());
+        searchResponseDTO.setTotal(searchResult.total());
+        return searchResponseDTO;
+    }
+}
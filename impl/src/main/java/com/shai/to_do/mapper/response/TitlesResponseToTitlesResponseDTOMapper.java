@@ -0,0 +1,23 @@
+package com.shai.to_do.mapper.response;
+
+import com.shai.to_do.constants.Queries;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import com.shai.to_do.dto.response.TitlesResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class TitlesResponseToTitlesResponseDTOMapper {
+    private final ResponseDTOFactory responseDTOFactory;
+
+    public TitlesResponseToTitlesResponseDTOMapper(ResponseDTOFactory responseDTOFactory) {
+        this.responseDTOFactory = responseDTOFactory;
+    }
+
+    public TitlesResponseDTO map(List<String> titles) {
+        TitlesResponseDTO titlesResponseDTO = (TitlesResponseDTO) responseDTOFactory.getResponseDTO(Queries.TITLES);
+        titlesResponseDTO.setResult(titles);
+        return titlesResponseDTO;
+    }
+}
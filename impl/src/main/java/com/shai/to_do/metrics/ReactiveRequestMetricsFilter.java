@@ -0,0 +1,28 @@
+package com.shai.to_do.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestMetricsFilter implements WebFilter {
+    public static final String START_NANOS_ATTRIBUTE = ReactiveRequestMetricsFilter.class.getName() + ".startNanos";
+
+    private final RequestMetrics requestMetrics;
+
+    public ReactiveRequestMetricsFilter(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startNanos = System.nanoTime();
+        exchange.getAttributes().put(START_NANOS_ATTRIBUTE, startNanos);
+        return chain.filter(exchange).doFinally(signal -> requestMetrics.recordLatency(
+                exchange.getRequest().getPath().value(), exchange.getRequest().getMethod().name(), System.nanoTime() - startNanos));
+    }
+}
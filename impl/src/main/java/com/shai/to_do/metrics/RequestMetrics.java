@@ -0,0 +1,80 @@
+package com.shai.to_do.metrics;
+
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.exception.DueDateExpiredException;
+import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.exception.TodoAlreadyExistsException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class RequestMetrics {
+    private final Map<String, Map<String, LatencyHistogram>> latencies;
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public RequestMetrics() {
+        Map<String, Map<String, LatencyHistogram>> latencies = new TreeMap<>();
+        for (String resource : constantsOf(Resources.class)) {
+            Map<String, LatencyHistogram> byVerb = new TreeMap<>();
+            for (String verb : constantsOf(Verbs.class)) {
+                byVerb.put(verb, new LatencyHistogram());
+            }
+            latencies.put(resource, Collections.unmodifiableMap(byVerb));
+        }
+        this.latencies = Collections.unmodifiableMap(latencies);
+        for (Class<? extends Exception> type : List.of(BadRequestException.class, DueDateExpiredException.class,
+                ResourceNotFoundException.class, TodoAlreadyExistsException.class)) {
+            errors.put(type.getSimpleName(), new LongAdder());
+        }
+    }
+
+    public void recordLatency(String resource, String verb, long durationNanos) {
+        Map<String, LatencyHistogram> byVerb = latencies.get(resource);
+        LatencyHistogram histogram = byVerb == null ? null : byVerb.get(verb);
+        if (histogram != null) {
+            histogram.record(durationNanos);
+        }
+    }
+
+    public void recordError(Class<? extends Exception> type) {
+        errors.computeIfAbsent(type.getSimpleName(), name -> new LongAdder()).increment();
+    }
+
+    public Map<String, Map<String, LatencyHistogram.Snapshot>> latencySnapshots() {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> snapshots = new TreeMap<>();
+        latencies.forEach((resource, byVerb) -> byVerb.forEach((verb, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            if (snapshot.count() > 0) {
+                snapshots.computeIfAbsent(resource, key -> new TreeMap<>()).put(verb, snapshot);
+            }
+        }));
+        return snapshots;
+    }
+
+    public Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    private static Set<String> constantsOf(Class<?> constants) {
+        Set<String> values = new TreeSet<>();
+        for (Field field : constants.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    values.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,79 @@
+package com.shai.to_do.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private final RequestMetrics requestMetrics;
+
+    public RequestMetricsFilter(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, startNanos));
+            } else {
+                record(request, startNanos);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long startNanos) {
+        requestMetrics.recordLatency(request.getRequestURI(), request.getMethod(), System.nanoTime() - startNanos);
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final long startNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private CompletionListener(HttpServletRequest request, long startNanos) {
+            this.request = request;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void recordOnce() {
+            if (recorded.compareAndSet(false, true)) {
+                record(request, startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.entity.Todo;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@Component
+public class ReactiveTodoRepository {
+    private static final int PAGE_SIZE = 1_000;
+
+    private final TodoRepository todoRepository;
+
+    public ReactiveTodoRepository(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public Flux<Todo> findTodoContentByStatusSortedByField(String status, String sortBy) {
+        return findPage(status, sortBy, null)
+                .expand(page -> page.size() < PAGE_SIZE ? Mono.empty() : findPage(status, sortBy, page.get(page.size() - 1)))
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<Todo>> findPage(String status, String sortBy, Todo after) {
+        return Mono.fromSupplier(() -> todoRepository.findTodoContentPageByStatusSortedByField(status, sortBy, after, PAGE_SIZE))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
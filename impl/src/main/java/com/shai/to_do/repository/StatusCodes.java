@@ -0,0 +1,32 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.constants.Status;
+
+public final class StatusCodes {
+    public static final byte UNKNOWN = -1;
+    public static final byte PENDING = 0;
+    public static final byte DONE = 1;
+    public static final byte LATE = 2;
+    public static final int COUNT = 3;
+
+    private StatusCodes() {
+    }
+
+    public static byte code(String status) {
+        return switch (status) {
+            case Status.PENDING -> PENDING;
+            case Status.DONE -> DONE;
+            case Status.LATE -> LATE;
+            default -> UNKNOWN;
+        };
+    }
+
+    public static String status(byte code) {
+        return switch (code) {
+            case PENDING -> Status.PENDING;
+            case DONE -> Status.DONE;
+            case LATE -> Status.LATE;
+            default -> throw new IllegalArgumentException("Unknown todo status code " + code);
+        };
+    }
+}
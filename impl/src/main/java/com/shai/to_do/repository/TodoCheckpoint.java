@@ -0,0 +1,7 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.entity.Todo;
+
+import java.util.List;
+
+public record TodoCheckpoint(long lsn, int highestId, List<Todo> todos, int[] idsByTitle, int[] idsByDueDate) {}
@@ -0,0 +1,38 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+
+import java.util.Optional;
+import java.util.Set;
+
+public record TodoFilter(String status, Long dueFrom, Long dueTo, Set<Integer> ids) {
+
+    public static TodoFilter of(String status, Optional<Long> dueFrom, Optional<Long> dueTo, Optional<Set<Integer>> ids) {
+        return new TodoFilter(status, dueFrom.orElse(null), dueTo.orElse(null), ids.orElse(null));
+    }
+
+    public boolean isEmpty() {
+        return Status.ALL.equals(status) && dueFrom == null && dueTo == null && ids == null;
+    }
+
+    public boolean hasDueDateRange() {
+        return dueFrom != null || dueTo != null;
+    }
+
+    public boolean matches(Todo todo) {
+        return matchesStatus(todo.getStatus()) && matchesDueDate(todo.getDueDate())
+                && (ids == null || ids.contains(todo.getId()));
+    }
+
+    public boolean matchesStatus(String todoStatus) {
+        return Status.ALL.equals(status) || status.equals(todoStatus);
+    }
+
+    public boolean matchesDueDate(Long dueDate) {
+        if (!hasDueDateRange()) {
+            return true;
+        }
+        return dueDate != null && (dueFrom == null || dueDate >= dueFrom) && (dueTo == null || dueDate < dueTo);
+    }
+}
@@ -0,0 +1,45 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.entity.Todo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TodoReadSnapshot {
+    private final long version;
+    private final int capacity;
+    private final Map<Query, List<Todo>> results = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedTodos = new AtomicInteger();
+
+    TodoReadSnapshot(long version, int capacity) {
+        this.version = version;
+        this.capacity = capacity;
+    }
+
+    long version() {
+        return version;
+    }
+
+    List<Todo> get(String status, String sortBy) {
+        return results.get(new Query(status, sortBy));
+    }
+
+    List<Todo> put(String status, String sortBy, List<Todo> todos) {
+        List<Todo> published = Collections.unmodifiableList(todos);
+        if (cachedTodos.addAndGet(todos.size()) > capacity) {
+            cachedTodos.addAndGet(-todos.size());
+            return published;
+        }
+        List<Todo> existing = results.putIfAbsent(new Query(status, sortBy), published);
+        if (existing != null) {
+            cachedTodos.addAndGet(-todos.size());
+            return existing;
+        }
+        return published;
+    }
+
+    private record Query(String status, String sortBy) {}
+}
@@ -3,116 +3,565 @@ package com.shai.to_do.repository;
 import com.shai.to_do.constants.SortBy;
 import com.shai.to_do.constants.Status;
 import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.engine.HeapTodoStorageEngine;
+import com.shai.to_do.repository.engine.TodoStorageEngine;
+import com.shai.to_do.repository.index.IndexBuild;
+import com.shai.to_do.repository.index.TitleTrie;
+import com.shai.to_do.repository.index.TodoSearchIndex;
+import com.shai.to_do.repository.journal.TodoJournal;
+import com.shai.to_do.repository.schedule.DueDateTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 
 @Component
 public class TodoRepository {
-    private List<Todo> todoDB;
+    private static final int DEFAULT_SNAPSHOT_CAPACITY = 2_000_000;
+    private static final int INDEX_BUILD_PAGE = 10_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+    private final Lock snapshotLock = new ReentrantLock();
+    private final TodoStorageEngine storageEngine;
+    private final TodoSearchIndex searchIndex = new TodoSearchIndex();
+    private final TitleTrie titleTrie = new TitleTrie();
+    private int highestId;
+    private volatile TodoJournal journal = TodoJournal.NONE;
+    private volatile DueDateTracker dueDateTracker = DueDateTracker.NONE;
+    private final long epoch = System.currentTimeMillis();
+    private final int snapshotCapacity;
+    private final boolean cacheReads;
+    private volatile long version;
+    private volatile TodoReadSnapshot readSnapshot;
+    private final boolean lazySearchIndex;
+    private final boolean lazyTitleIndex;
+    private volatile boolean searchIndexed;
+    private volatile boolean titlesIndexed;
 
     public TodoRepository() {
-        todoDB = new ArrayList<>();
+        this(new HeapTodoStorageEngine());
+    }
+
+    public TodoRepository(TodoStorageEngine storageEngine) {
+        this(storageEngine, DEFAULT_SNAPSHOT_CAPACITY);
+    }
+
+    public TodoRepository(TodoStorageEngine storageEngine, int snapshotCapacity) {
+        this(storageEngine, snapshotCapacity, null, null);
+    }
+
+    @Autowired
+    public TodoRepository(TodoStorageEngine storageEngine,
+                          @Value("${todo.read-snapshot.max-todos:" + DEFAULT_SNAPSHOT_CAPACITY + "}") int snapshotCapacity,
+                          @Value("${todo.search-index.build:#{null}}") IndexBuild searchIndexBuild,
+                          @Value("${todo.title-index.build:#{null}}") IndexBuild titleIndexBuild) {
+        this.storageEngine = storageEngine;
+        this.snapshotCapacity = snapshotCapacity;
+        this.cacheReads = snapshotCapacity > 0 && !storageEngine.materializesTodos();
+        this.readSnapshot = new TodoReadSnapshot(0, snapshotCapacity);
+        this.lazySearchIndex = defaultIfNull(searchIndexBuild, storageEngine) == IndexBuild.LAZY;
+        this.lazyTitleIndex = defaultIfNull(titleIndexBuild, storageEngine) == IndexBuild.LAZY;
+        this.searchIndexed = !lazySearchIndex;
+        this.titlesIndexed = !lazyTitleIndex;
+    }
+
+    public void attachJournal(TodoJournal journal) {
+        writeLock.lock();
+        try {
+            this.journal = journal;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void attachDueDateTracker(DueDateTracker dueDateTracker) {
+        writeLock.lock();
+        try {
+            this.dueDateTracker = dueDateTracker;
+            trackPendingDueDates();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     public void add(Todo todo) {
-        todoDB.add(todo);
+        long lsn;
+        writeLock.lock();
+        try {
+            lsn = journal.logAdd(todo);
+            put(todo);
+            highestId = Math.max(highestId, todo.getId());
+            trackDueDate(todo);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+    }
+
+    public void addAll(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return;
+        }
+        long lsn = 0;
+        boolean mutated = false;
+        writeLock.lock();
+        try {
+            for (Todo todo : todos) {
+                lsn = journal.logAdd(todo);
+                mutated = true;
+                put(todo);
+                highestId = Math.max(highestId, todo.getId());
+                trackDueDate(todo);
+            }
+        } finally {
+            if (mutated) {
+                version++;
+            }
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
     }
 
     public boolean existsById(Integer id) {
-        return todoDB.stream()
-                .anyMatch(todo-> Objects.equals(todo.getId(), id));
+        if (id == null) {
+            return false;
+        }
+        readLock.lock();
+        try {
+            return storageEngine.contains(id);
+        } finally {
+            readLock.unlock();
+        }
     }
 
-    public void updateStatusById(Integer id, String status) {
-        for (Todo todo : todoDB) {
-            if (Objects.equals(todo.getId(), id)) {
-                todo.setStatus(status);
+    public String updateStatusById(Integer id, String status) {
+        String oldStatus;
+        long lsn;
+        writeLock.lock();
+        try {
+            if (!storageEngine.contains(id)) {
+                return null;
             }
+            lsn = journal.logStatusUpdate(id, status);
+            oldStatus = storageEngine.updateStatus(id, status);
+            updateSearchStatus(id, status);
+            trackDueDate(id, status);
+            version++;
+        } finally {
+            writeLock.unlock();
         }
+        journal.awaitDurable(lsn);
+        return oldStatus;
     }
 
     public Todo findById(Integer id) {
-        return todoDB.stream()
-                .filter(t->t.getId().equals(id))
-                .findFirst()
-                .get();
+        Todo todo;
+        readLock.lock();
+        try {
+            todo = storageEngine.get(id);
+        } finally {
+            readLock.unlock();
+        }
+        if (todo == null) {
+            throw new NoSuchElementException("No todo with id " + id);
+        }
+        return todo;
     }
 
     public boolean existsByTitle(String title) {
-        return todoDB.stream()
-                .anyMatch(todo -> todo.getTitle().equals(title));
+        readLock.lock();
+        try {
+            return storageEngine.containsTitle(title);
+        } finally {
+            readLock.unlock();
+        }
     }
 
-    public long countByStatus(String status) {
-        if (status.equals(Status.ALL)) {
-            return countAll();
+    public Set<String> findExistingTitles(Set<String> titles) {
+        readLock.lock();
+        try {
+            Set<String> existing = new HashSet<>();
+            for (String title : titles) {
+                if (storageEngine.containsTitle(title)) {
+                    existing.add(title);
+                }
+            }
+            return existing;
+        } finally {
+            readLock.unlock();
         }
-        return todoDB.stream()
-                .filter(todo -> todo.getStatus().equals(status))
-                .count();
     }
 
-    private long countAll() {
-        return todoDB.size();
+    public List<String> findTitlesByPrefix(String prefix, int limit) {
+        if (!titlesIndexed) {
+            buildTitleIndex();
+        }
+        readLock.lock();
+        try {
+            return titleTrie.findByPrefix(prefix, limit);
+        } finally {
+            readLock.unlock();
+        }
     }
 
-    public List<Todo> findTodoContentByStatusSortedByField(String status, String sortBy) {
-        List<Todo> filteredTodos = findTodoContentByStatus(status);
+    public long countByStatus(String status) {
+        readLock.lock();
+        try {
+            return storageEngine.countByStatus(status);
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        switch (sortBy) {
-            case SortBy.ID -> { sortById(filteredTodos); }
-            case SortBy.TITLE -> { sortByTitle(filteredTodos); }
-            case SortBy.DUE_DATE -> { sortByDueDate(filteredTodos); }
+    public List<Todo> findTodoContentByStatusSortedByField(String status, String sortBy) {
+        List<Todo> todos = cachedRead(status, sortBy);
+        if (todos != null) {
+            return todos;
         }
+        readLock.lock();
+        try {
+            return publishRead(status, sortBy, storageEngine.findByStatusSortedBy(status, sortBy));
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        return filteredTodos;
+    public List<Todo> findTodoContentPageByStatusSortedByField(String status, String sortBy, Todo after, int limit) {
+        readLock.lock();
+        try {
+            return storageEngine.findPageByStatusSortedBy(status, sortBy, after, limit);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     public List<Todo> findTodoContentByStatus(String status) {
-        if (status.equals(Status.ALL)) {
-            return todoDB;
+        List<Todo> todos = cachedRead(status, null);
+        if (todos != null) {
+            return todos;
+        }
+        readLock.lock();
+        try {
+            return publishRead(status, null, storageEngine.findByStatus(status));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public TodoSearchResult search(List<String> terms, boolean matchAll, String status, int limit) {
+        if (!searchIndexed) {
+            buildSearchIndex();
+        }
+        readLock.lock();
+        try {
+            TodoSearchIndex.Hits hits = searchIndex.search(terms, matchAll, status, limit);
+            List<Todo> todos = new ArrayList<>(hits.ids().length);
+            for (int id : hits.ids()) {
+                todos.add(storageEngine.get(id));
+            }
+            return new TodoSearchResult(todos, hits.total());
+        } finally {
+            readLock.unlock();
         }
-        return todoDB.stream()
-                .filter(todo -> todo.getStatus().equals(status))
-                .collect(Collectors.toList());
     }
 
     public int deleteById(Integer id) {
-        todoDB.removeIf(todo -> Objects.equals(todo.getId(), id));
-        return todoDB.size();
+        int size;
+        long lsn = 0;
+        writeLock.lock();
+        try {
+            if (storageEngine.contains(id)) {
+                lsn = journal.logDelete(id);
+                remove(id);
+                version++;
+            }
+            size = storageEngine.size();
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+        return size;
+    }
+
+    public int updateStatusWhere(TodoFilter filter, String status) {
+        int updated = 0;
+        long lsn = 0;
+        writeLock.lock();
+        try {
+            for (int id : findIdsMatching(filter)) {
+                if (status.equals(storageEngine.get(id).getStatus())) {
+                    continue;
+                }
+                lsn = journal.logStatusUpdate(id, status);
+                updated++;
+                storageEngine.updateStatus(id, status);
+                updateSearchStatus(id, status);
+                trackDueDate(id, status);
+            }
+        } finally {
+            if (updated > 0) {
+                version++;
+            }
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+        return updated;
+    }
+
+    public int markLateIfOverdue(int[] ids, long now) {
+        int updated = 0;
+        long lsn = 0;
+        writeLock.lock();
+        try {
+            for (int id : ids) {
+                Todo todo = storageEngine.get(id);
+                if (todo != null && Status.PENDING.equals(todo.getStatus()) && todo.getDueDate() != null
+                        && todo.getDueDate() <= now) {
+                    lsn = journal.logStatusUpdate(id, Status.LATE);
+                    updated++;
+                    storageEngine.updateStatus(id, Status.LATE);
+                    updateSearchStatus(id, Status.LATE);
+                }
+            }
+        } finally {
+            if (updated > 0) {
+                version++;
+            }
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+        return updated;
+    }
+
+    public int deleteWhere(TodoFilter filter) {
+        int deleted = 0;
+        long lsn = 0;
+        writeLock.lock();
+        try {
+            for (int id : findIdsMatching(filter)) {
+                lsn = journal.logDelete(id);
+                deleted++;
+                remove(id);
+            }
+        } finally {
+            if (deleted > 0) {
+                version++;
+            }
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+        return deleted;
     }
 
     public void clear() {
-        todoDB = new ArrayList<>();
+        long lsn;
+        writeLock.lock();
+        try {
+            lsn = journal.logClear();
+            storageEngine.clear();
+            searchIndex.clear();
+            titleTrie.clear();
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(lsn);
+    }
+
+    public long getVersion() {
+        return version;
     }
 
-    private void sortById(List<Todo> todoList) {
-        todoList.sort(new Comparator<Todo>() {
-            @Override
-            public int compare(Todo t1, Todo t2) {
-                return t1.getId().compareTo(t2.getId());
+    public String getVersionTag() {
+        return epoch + "-" + version;
+    }
+
+    public int getHighestId() {
+        readLock.lock();
+        try {
+            return highestId;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public TodoCheckpoint checkpoint() {
+        readLock.lock();
+        try {
+            return new TodoCheckpoint(journal.lastLsn(), highestId, storageEngine.exportSortedById(),
+                    storageEngine.idsSortedBy(SortBy.TITLE), storageEngine.idsSortedBy(SortBy.DUE_DATE));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void restore(TodoCheckpoint checkpoint) {
+        writeLock.lock();
+        try {
+            storageEngine.restore(checkpoint.todos(), checkpoint.idsByTitle(), checkpoint.idsByDueDate());
+            searchIndex.clear();
+            searchIndexed = !lazySearchIndex;
+            titleTrie.clear();
+            titlesIndexed = !lazyTitleIndex;
+            if (searchIndexed || titlesIndexed) {
+                for (Todo todo : checkpoint.todos()) {
+                    index(todo);
+                }
             }
-        });
+            highestId = checkpoint.highestId();
+            trackPendingDueDates();
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(Todo todo) {
+        if (storageEngine.contains(todo.getId())) {
+            unindex(storageEngine.get(todo.getId()));
+        }
+        storageEngine.put(todo);
+        index(todo);
+    }
+
+    private void remove(int id) {
+        unindex(storageEngine.get(id));
+        storageEngine.remove(id);
+    }
+
+    private void index(Todo todo) {
+        if (searchIndexed) {
+            searchIndex.add(todo);
+        }
+        if (titlesIndexed) {
+            titleTrie.add(todo.getTitle());
+        }
     }
 
-    private void sortByTitle (List<Todo> todoList) {
-        todoList.sort(new Comparator<Todo>() {
-            @Override
-            public int compare(Todo t1, Todo t2) {
-                return t1.getTitle().compareTo(t2.getTitle());
+    private void unindex(Todo todo) {
+        if (searchIndexed) {
+            searchIndex.remove(todo);
+        }
+        if (titlesIndexed) {
+            titleTrie.remove(todo.getTitle());
+        }
+    }
+
+    private void updateSearchStatus(int id, String status) {
+        if (searchIndexed) {
+            searchIndex.updateStatus(id, status);
+        }
+    }
+
+    private void buildSearchIndex() {
+        writeLock.lock();
+        try {
+            if (!searchIndexed) {
+                forEachTodo(searchIndex::add);
+                searchIndexed = true;
             }
-        });
+        } finally {
+            writeLock.unlock();
+        }
     }
 
-    private void sortByDueDate (List<Todo> todoList) {
-        todoList.sort(new Comparator<Todo>() {
-            @Override
-            public int compare(Todo t1, Todo t2) {
-                return t1.getDueDate().compareTo(t2.getDueDate());
+    private void buildTitleIndex() {
+        writeLock.lock();
+        try {
+            if (!titlesIndexed) {
+                forEachTodo(todo -> titleTrie.add(todo.getTitle()));
+                titlesIndexed = true;
             }
-        });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void forEachTodo(Consumer<Todo> action) {
+        Todo after = null;
+        List<Todo> page;
+        do {
+            page = storageEngine.findPageByStatusSortedBy(Status.ALL, SortBy.ID, after, INDEX_BUILD_PAGE);
+            page.forEach(action);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == INDEX_BUILD_PAGE);
+    }
+
+    private static IndexBuild defaultIfNull(IndexBuild indexBuild, TodoStorageEngine storageEngine) {
+        if (indexBuild != null) {
+            return indexBuild;
+        }
+        return storageEngine.materializesTodos() ? IndexBuild.LAZY : IndexBuild.EAGER;
+    }
+
+    private void trackDueDate(Todo todo) {
+        if (Status.PENDING.equals(todo.getStatus()) && todo.getDueDate() != null) {
+            dueDateTracker.track(todo.getId(), todo.getDueDate());
+        }
+    }
+
+    private void trackDueDate(int id, String status) {
+        if (Status.PENDING.equals(status) && dueDateTracker != DueDateTracker.NONE) {
+            trackDueDate(storageEngine.get(id));
+        }
+    }
+
+    private void trackPendingDueDates() {
+        if (dueDateTracker != DueDateTracker.NONE) {
+            storageEngine.findByStatus(Status.PENDING).forEach(this::trackDueDate);
+        }
+    }
+
+    private int[] findIdsMatching(TodoFilter filter) {
+        if (filter.ids() == null) {
+            return storageEngine.findIdsMatching(filter);
+        }
+        int[] ids = new int[filter.ids().size()];
+        int count = 0;
+        for (int id : filter.ids()) {
+            Todo todo = storageEngine.get(id);
+            if (todo != null && filter.matches(todo)) {
+                ids[count++] = id;
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    private List<Todo> cachedRead(String status, String sortBy) {
+        if (!cacheReads) {
+            return null;
+        }
+        TodoReadSnapshot snapshot = readSnapshot;
+        return snapshot.version() == version ? snapshot.get(status, sortBy) : null;
+    }
+
+    private List<Todo> publishRead(String status, String sortBy, List<Todo> todos) {
+        return cacheReads ? currentReadSnapshot().put(status, sortBy, todos) : Collections.unmodifiableList(todos);
+    }
+
+    private TodoReadSnapshot currentReadSnapshot() {
+        TodoReadSnapshot snapshot = readSnapshot;
+        if (snapshot.version() != version) {
+            snapshotLock.lock();
+            try {
+                snapshot = readSnapshot;
+                if (snapshot.version() != version) {
+                    snapshot = new TodoReadSnapshot(version, snapshotCapacity);
+                    readSnapshot = snapshot;
+                }
+            } finally {
+                snapshotLock.unlock();
+            }
+        }
+        return snapshot;
     }
 }
@@ -0,0 +1,7 @@
+package com.shai.to_do.repository;
+
+import com.shai.to_do.entity.Todo;
+
+import java.util.List;
+
+public record TodoSearchResult(List<Todo> todos, int total) {}
@@ -0,0 +1,507 @@
+package com.shai.to_do.repository.engine;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
+import com.shai.to_do.repository.StatusCodes;
+import com.shai.to_do.repository.index.IntIntHashMap;
+import com.shai.to_do.repository.index.SlotHashSet;
+import com.shai.to_do.repository.index.SortedSlotList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+public class ColumnarTodoStorageEngine implements TodoStorageEngine {
+    private static final int NO_SLOT = -1;
+    private static final int NO_TEXT = -1;
+    private static final byte FREE = -1;
+    private static final byte ALL = -2;
+    private static final long NO_DUE_DATE = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_COMPACTION_CHARS = 1 << 20;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int ORDER_BY_ID = 0;
+    private static final int ORDER_BY_TITLE = 1;
+    private static final int ORDER_BY_DUE_DATE = 2;
+    private static final int ORDER_COUNT = 3;
+
+    private int[] ids;
+    private long[] dueDates;
+    private byte[] statuses;
+    private int[] titleOffsets;
+    private int[] contentOffsets;
+    private char[] text;
+    private int textLength;
+    private int garbageChars;
+    private int slotCount;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int size;
+    private int[] statusCounts;
+    private IntIntHashMap slotsById;
+    private SlotHashSet slotsByTitle;
+    private final SortedSlotList[][] sortedSlots = new SortedSlotList[ORDER_COUNT][StatusCodes.COUNT];
+
+    public ColumnarTodoStorageEngine() {
+        clear();
+    }
+
+    @Override
+    public void put(Todo todo) {
+        int slot = store(todo);
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            sortedSlots[order][statuses[slot]].add(slot);
+        }
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return slotsById.containsKey(id);
+    }
+
+    @Override
+    public Todo get(int id) {
+        int slot = slotsById.get(id);
+        return slot == NO_SLOT ? null : materialize(slot);
+    }
+
+    @Override
+    public boolean containsTitle(String title) {
+        return title != null && slotsByTitle.contains(title.hashCode(), slot -> compareText(titleOffsets[slot], title) == 0);
+    }
+
+    @Override
+    public String updateStatus(int id, String status) {
+        int slot = slotsById.get(id);
+        if (slot == NO_SLOT) {
+            return null;
+        }
+        byte statusCode = StatusCodes.code(status);
+        if (statusCode == StatusCodes.UNKNOWN) {
+            throw new IllegalArgumentException("Unknown todo status " + status);
+        }
+        byte oldStatusCode = statuses[slot];
+        if (oldStatusCode == statusCode) {
+            return status;
+        }
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            sortedSlots[order][oldStatusCode].remove(slot);
+            sortedSlots[order][statusCode].add(slot);
+        }
+        statusCounts[oldStatusCode]--;
+        statusCounts[statusCode]++;
+        statuses[slot] = statusCode;
+        return StatusCodes.status(oldStatusCode);
+    }
+
+    @Override
+    public boolean remove(int id) {
+        int slot = slotsById.get(id);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+        release(slot);
+        compactTextIfWasteful();
+        return true;
+    }
+
+    @Override
+    public boolean materializesTodos() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int countByStatus(String status) {
+        if (status.equals(Status.ALL)) {
+            return size;
+        }
+        byte statusCode = StatusCodes.code(status);
+        return statusCode == StatusCodes.UNKNOWN ? 0 : statusCounts[statusCode];
+    }
+
+    @Override
+    public List<Todo> findByStatus(String status) {
+        byte filter = statusFilter(status);
+        List<Todo> todos = new ArrayList<>(countByStatus(status));
+        if (filter == StatusCodes.UNKNOWN) {
+            return todos;
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (matches(slot, filter)) {
+                todos.add(materialize(slot));
+            }
+        }
+        return todos;
+    }
+
+    @Override
+    public List<Todo> findByStatusSortedBy(String status, String sortBy) {
+        byte filter = statusFilter(status);
+        List<Todo> todos = new ArrayList<>(countByStatus(status));
+        if (filter == StatusCodes.UNKNOWN) {
+            return todos;
+        }
+        forEachSorted(order(sortBy), filter, null, slot -> todos.add(materialize(slot)));
+        return todos;
+    }
+
+    @Override
+    public List<Todo> findPageByStatusSortedBy(String status, String sortBy, Todo after, int limit) {
+        byte filter = statusFilter(status);
+        List<Todo> page = new ArrayList<>();
+        if (filter == StatusCodes.UNKNOWN || limit <= 0) {
+            return page;
+        }
+        forEachSorted(order(sortBy), filter, after, slot -> page.add(materialize(slot)) && page.size() < limit);
+        return page;
+    }
+
+    @Override
+    public int[] idsSortedBy(String sortBy) {
+        int[] result = new int[size];
+        int[] count = new int[1];
+        forEachSorted(order(sortBy), ALL, null, slot -> {
+            result[count[0]++] = ids[slot];
+            return true;
+        });
+        return result;
+    }
+
+    @Override
+    public int[] findIdsMatching(TodoFilter filter) {
+        byte statusFilter = statusFilter(filter.status());
+        if (statusFilter == StatusCodes.UNKNOWN) {
+            return new int[0];
+        }
+        long dueFrom = filter.dueFrom() == null ? Long.MIN_VALUE : filter.dueFrom();
+        long dueTo = filter.dueTo() == null ? Long.MAX_VALUE : filter.dueTo();
+        boolean hasDueDateRange = filter.hasDueDateRange();
+        int[] result = new int[countByStatus(filter.status())];
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!matches(slot, statusFilter)) {
+                continue;
+            }
+            long dueDate = dueDates[slot];
+            if (hasDueDateRange && (dueDate == NO_DUE_DATE || dueDate < dueFrom || dueDate >= dueTo)) {
+                continue;
+            }
+            if (filter.ids() == null || filter.ids().contains(ids[slot])) {
+                result[count++] = ids[slot];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    @Override
+    public List<Todo> exportSortedById() {
+        return findByStatusSortedBy(Status.ALL, SortBy.ID);
+    }
+
+    @Override
+    public void restore(List<Todo> todosSortedById, int[] idsByTitle, int[] idsByDueDate) {
+        allocate(Math.max(INITIAL_CAPACITY, todosSortedById.size()));
+        for (Todo todo : todosSortedById) {
+            store(todo);
+        }
+        int[] byId = new int[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            byId[slot] = ids[slot];
+        }
+        bulkLoad(ORDER_BY_ID, byId);
+        bulkLoad(ORDER_BY_TITLE, idsByTitle);
+        bulkLoad(ORDER_BY_DUE_DATE, idsByDueDate);
+    }
+
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        ids = new int[capacity];
+        dueDates = new long[capacity];
+        statuses = new byte[capacity];
+        titleOffsets = new int[capacity];
+        contentOffsets = new int[capacity];
+        text = new char[capacity * 16];
+        textLength = 0;
+        garbageChars = 0;
+        slotCount = 0;
+        freeSlots = new int[INITIAL_CAPACITY];
+        freeSlotCount = 0;
+        size = 0;
+        statusCounts = new int[StatusCodes.COUNT];
+        slotsById = new IntIntHashMap(capacity, NO_SLOT);
+        slotsByTitle = new SlotHashSet(capacity, this::titleHash);
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            for (int statusCode = 0; statusCode < StatusCodes.COUNT; statusCode++) {
+                sortedSlots[order][statusCode] = new SortedSlotList(comparator(order));
+            }
+        }
+    }
+
+    private int store(Todo todo) {
+        byte statusCode = StatusCodes.code(todo.getStatus());
+        if (statusCode == StatusCodes.UNKNOWN) {
+            throw new IllegalArgumentException("Unknown todo status " + todo.getStatus());
+        }
+        int existingSlot = slotsById.get(todo.getId());
+        if (existingSlot != NO_SLOT) {
+            release(existingSlot);
+        }
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot();
+        ids[slot] = todo.getId();
+        dueDates[slot] = todo.getDueDate() == null ? NO_DUE_DATE : todo.getDueDate();
+        statuses[slot] = statusCode;
+        titleOffsets[slot] = appendText(todo.getTitle());
+        contentOffsets[slot] = appendText(todo.getContent());
+        slotsById.put(todo.getId(), slot);
+        if (titleOffsets[slot] != NO_TEXT) {
+            slotsByTitle.add(slot);
+        }
+        statusCounts[statusCode]++;
+        size++;
+        return slot;
+    }
+
+    private Todo materialize(int slot) {
+        long dueDate = dueDates[slot];
+        return new Todo(ids[slot], readText(titleOffsets[slot]), readText(contentOffsets[slot]),
+                StatusCodes.status(statuses[slot]), dueDate == NO_DUE_DATE ? null : dueDate);
+    }
+
+    private void release(int slot) {
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            sortedSlots[order][statuses[slot]].remove(slot);
+        }
+        if (titleOffsets[slot] != NO_TEXT) {
+            slotsByTitle.remove(slot);
+        }
+        garbageChars += textSize(titleOffsets[slot]) + textSize(contentOffsets[slot]);
+        statusCounts[statuses[slot]]--;
+        statuses[slot] = FREE;
+        slotsById.remove(ids[slot]);
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, grow(freeSlots.length, freeSlotCount + 1));
+        }
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+    }
+
+    private int nextSlot() {
+        if (slotCount == ids.length) {
+            int capacity = grow(ids.length, slotCount + 1);
+            ids = Arrays.copyOf(ids, capacity);
+            dueDates = Arrays.copyOf(dueDates, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            titleOffsets = Arrays.copyOf(titleOffsets, capacity);
+            contentOffsets = Arrays.copyOf(contentOffsets, capacity);
+        }
+        return slotCount++;
+    }
+
+    private boolean matches(int slot, byte filter) {
+        byte statusCode = statuses[slot];
+        return statusCode != FREE && (filter == ALL || statusCode == filter);
+    }
+
+    private static byte statusFilter(String status) {
+        return status.equals(Status.ALL) ? ALL : StatusCodes.code(status);
+    }
+
+    private static int order(String sortBy) {
+        return switch (sortBy) {
+            case SortBy.TITLE -> ORDER_BY_TITLE;
+            case SortBy.DUE_DATE -> ORDER_BY_DUE_DATE;
+            default -> ORDER_BY_ID;
+        };
+    }
+
+    private SortedSlotList.SlotComparator comparator(int order) {
+        return (slot1, slot2) -> compareSlots(order, slot1, slot2);
+    }
+
+    private void bulkLoad(int order, int[] idsInOrder) {
+        int[][] slotsByStatus = new int[StatusCodes.COUNT][];
+        int[] counts = new int[StatusCodes.COUNT];
+        for (int statusCode = 0; statusCode < StatusCodes.COUNT; statusCode++) {
+            slotsByStatus[statusCode] = new int[statusCounts[statusCode]];
+        }
+        for (int id : idsInOrder) {
+            int slot = slotsById.get(id);
+            byte statusCode = statuses[slot];
+            slotsByStatus[statusCode][counts[statusCode]++] = slot;
+        }
+        for (int statusCode = 0; statusCode < StatusCodes.COUNT; statusCode++) {
+            sortedSlots[order][statusCode].bulkLoad(slotsByStatus[statusCode], counts[statusCode]);
+        }
+    }
+
+    private void forEachSorted(int order, byte filter, Todo after, IntPredicate action) {
+        if (filter != ALL) {
+            SortedSlotList.Cursor cursor = cursor(order, filter, after);
+            while (cursor.hasNext()) {
+                if (!action.test(cursor.next())) {
+                    return;
+                }
+            }
+            return;
+        }
+        SortedSlotList.Cursor[] cursors = new SortedSlotList.Cursor[StatusCodes.COUNT];
+        for (byte statusCode = 0; statusCode < StatusCodes.COUNT; statusCode++) {
+            cursors[statusCode] = cursor(order, statusCode, after);
+        }
+        while (true) {
+            SortedSlotList.Cursor first = null;
+            for (SortedSlotList.Cursor cursor : cursors) {
+                if (cursor.hasNext() && (first == null || compareSlots(order, cursor.peek(), first.peek()) < 0)) {
+                    first = cursor;
+                }
+            }
+            if (first == null || !action.test(first.next())) {
+                return;
+            }
+        }
+    }
+
+    private SortedSlotList.Cursor cursor(int order, byte statusCode, Todo after) {
+        SortedSlotList slots = sortedSlots[order][statusCode];
+        return after == null ? slots.cursor() : slots.cursorAfter(slot -> compareSlotToKey(order, slot, after) <= 0);
+    }
+
+    private int compareSlotToKey(int order, int slot, Todo key) {
+        int result = switch (order) {
+            case ORDER_BY_TITLE -> compareText(titleOffsets[slot], key.getTitle());
+            case ORDER_BY_DUE_DATE -> Long.compare(dueDates[slot], key.getDueDate() == null ? NO_DUE_DATE : key.getDueDate());
+            default -> 0;
+        };
+        return result != 0 ? result : Integer.compare(ids[slot], key.getId());
+    }
+
+    private int compareSlots(int order, int slot1, int slot2) {
+        int result = switch (order) {
+            case ORDER_BY_TITLE -> compareText(titleOffsets[slot1], titleOffsets[slot2]);
+            case ORDER_BY_DUE_DATE -> Long.compare(dueDates[slot1], dueDates[slot2]);
+            default -> 0;
+        };
+        return result != 0 ? result : Integer.compare(ids[slot1], ids[slot2]);
+    }
+
+    private int appendText(String value) {
+        if (value == null) {
+            return NO_TEXT;
+        }
+        int length = value.length();
+        ensureTextCapacity(2 + length);
+        int offset = textLength;
+        text[offset] = (char) (length >>> 16);
+        text[offset + 1] = (char) length;
+        value.getChars(0, length, text, offset + 2);
+        textLength += 2 + length;
+        return offset;
+    }
+
+    private void ensureTextCapacity(int extra) {
+        if ((long) textLength + extra > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Columnar text buffer is full");
+        }
+        if (textLength + extra > text.length) {
+            text = Arrays.copyOf(text, grow(text.length, textLength + extra));
+        }
+    }
+
+    private void compactTextIfWasteful() {
+        if (garbageChars < MIN_COMPACTION_CHARS || garbageChars * 2L < textLength) {
+            return;
+        }
+        char[] oldText = text;
+        text = new char[Math.max(INITIAL_CAPACITY, textLength - garbageChars)];
+        textLength = 0;
+        garbageChars = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (statuses[slot] != FREE) {
+                titleOffsets[slot] = copyText(oldText, titleOffsets[slot]);
+                contentOffsets[slot] = copyText(oldText, contentOffsets[slot]);
+            }
+        }
+    }
+
+    private int copyText(char[] source, int offset) {
+        if (offset == NO_TEXT) {
+            return NO_TEXT;
+        }
+        int copied = 2 + textLength(source, offset);
+        int newOffset = textLength;
+        System.arraycopy(source, offset, text, newOffset, copied);
+        textLength += copied;
+        return newOffset;
+    }
+
+    private String readText(int offset) {
+        return offset == NO_TEXT ? null : new String(text, offset + 2, textLength(text, offset));
+    }
+
+    private int titleHash(int slot) {
+        int offset = titleOffsets[slot];
+        int hash = 0;
+        for (int i = 0, length = textLength(text, offset); i < length; i++) {
+            hash = 31 * hash + text[offset + 2 + i];
+        }
+        return hash;
+    }
+
+    private int textSize(int offset) {
+        return offset == NO_TEXT ? 0 : 2 + textLength(text, offset);
+    }
+
+    private int compareText(int offset1, int offset2) {
+        if (offset1 == NO_TEXT || offset2 == NO_TEXT) {
+            return offset1 == offset2 ? 0 : (offset1 == NO_TEXT ? -1 : 1);
+        }
+        int length1 = textLength(text, offset1);
+        int length2 = textLength(text, offset2);
+        int limit = Math.min(length1, length2);
+        for (int i = 0; i < limit; i++) {
+            char c1 = text[offset1 + 2 + i];
+            char c2 = text[offset2 + 2 + i];
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return length1 - length2;
+    }
+
+    private int compareText(int offset, String value) {
+        if (offset == NO_TEXT || value == null) {
+            return offset == NO_TEXT && value == null ? 0 : (offset == NO_TEXT ? -1 : 1);
+        }
+        int length = textLength(text, offset);
+        int limit = Math.min(length, value.length());
+        for (int i = 0; i < limit; i++) {
+            char c = text[offset + 2 + i];
+            if (c != value.charAt(i)) {
+                return c - value.charAt(i);
+            }
+        }
+        return length - value.length();
+    }
+
+    private static int textLength(char[] source, int offset) {
+        return (source[offset] << 16) | source[offset + 1];
+    }
+
+    private static int grow(int current, int minimum) {
+        long grown = Math.max((long) minimum, current + (current >> 1) + 1L);
+        return (int) Math.min(grown, MAX_ARRAY_SIZE);
+    }
+}
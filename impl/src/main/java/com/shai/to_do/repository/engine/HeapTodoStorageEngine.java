@@ -0,0 +1,250 @@
+package com.shai.to_do.repository.engine;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
+import com.shai.to_do.repository.index.IntTodoHashMap;
+import com.shai.to_do.repository.index.SortedTodoIndex;
+
+import java.util.*;
+
+public class HeapTodoStorageEngine implements TodoStorageEngine {
+    private IntTodoHashMap todoDB;
+    private Map<String, IntTodoHashMap> todosByStatus;
+    private Map<String, SortedTodoIndex> sortedIndexes;
+    private Map<String, Integer> titleCounts;
+
+    public HeapTodoStorageEngine() {
+        clear();
+    }
+
+    @Override
+    public void put(Todo todo) {
+        Todo previous = todoDB.put(todo.getId(), todo);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(todo);
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return todoDB.containsKey(id);
+    }
+
+    @Override
+    public Todo get(int id) {
+        return todoDB.get(id);
+    }
+
+    @Override
+    public boolean containsTitle(String title) {
+        return title != null && titleCounts.containsKey(title);
+    }
+
+    @Override
+    public String updateStatus(int id, String status) {
+        Todo todo = todoDB.get(id);
+        if (todo == null) {
+            return null;
+        }
+        put(new Todo(todo.getId(), todo.getTitle(), todo.getContent(), status, todo.getDueDate()));
+        return todo.getStatus();
+    }
+
+    @Override
+    public boolean remove(int id) {
+        Todo removed = todoDB.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed);
+        return true;
+    }
+
+    @Override
+    public boolean materializesTodos() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return todoDB.size();
+    }
+
+    @Override
+    public int countByStatus(String status) {
+        if (status.equals(Status.ALL)) {
+            return todoDB.size();
+        }
+        IntTodoHashMap bucket = todosByStatus.get(status);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    @Override
+    public List<Todo> findByStatus(String status) {
+        if (status.equals(Status.ALL)) {
+            return todoDB.values();
+        }
+        IntTodoHashMap bucket = todosByStatus.get(status);
+        return bucket == null ? new ArrayList<>() : bucket.values();
+    }
+
+    @Override
+    public List<Todo> findByStatusSortedBy(String status, String sortBy) {
+        SortedTodoIndex sortedIndex = sortedIndexes.get(status);
+        if (sortedIndex == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(sortedIndex.sortedBy(sortBy));
+    }
+
+    @Override
+    public List<Todo> findPageByStatusSortedBy(String status, String sortBy, Todo after, int limit) {
+        List<Todo> page = new ArrayList<>();
+        SortedTodoIndex sortedIndex = sortedIndexes.get(status);
+        if (sortedIndex == null) {
+            return page;
+        }
+        NavigableSet<Todo> sorted = sortedIndex.sortedBy(sortBy);
+        for (Todo todo : after == null ? sorted : sorted.tailSet(after, false)) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(todo);
+        }
+        return page;
+    }
+
+    @Override
+    public int[] idsSortedBy(String sortBy) {
+        NavigableSet<Todo> todos = sortedIndexes.get(Status.ALL).sortedBy(sortBy);
+        int[] ids = new int[todos.size()];
+        int i = 0;
+        for (Todo todo : todos) {
+            ids[i++] = todo.getId();
+        }
+        return ids;
+    }
+
+    @Override
+    public int[] findIdsMatching(TodoFilter filter) {
+        SortedTodoIndex sortedIndex = sortedIndexes.get(filter.status());
+        if (sortedIndex == null) {
+            return new int[0];
+        }
+        NavigableSet<Todo> candidates = sortedIndex.sortedBy(filter.hasDueDateRange() ? SortBy.DUE_DATE : SortBy.ID);
+        if (filter.dueFrom() != null) {
+            candidates = candidates.tailSet(dueDateProbe(filter.dueFrom()), true);
+        }
+        if (filter.dueTo() != null) {
+            candidates = candidates.headSet(dueDateProbe(filter.dueTo()), false);
+        }
+        int[] ids = new int[candidates.size()];
+        int count = 0;
+        for (Todo todo : candidates) {
+            if (filter.matches(todo)) {
+                ids[count++] = todo.getId();
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    @Override
+    public List<Todo> exportSortedById() {
+        List<Todo> todos = new ArrayList<>(todoDB.size());
+        for (Todo todo : sortedIndexes.get(Status.ALL).sortedBy(SortBy.ID)) {
+            todos.add(new Todo(todo.getId(), todo.getTitle(), todo.getContent(), todo.getStatus(), todo.getDueDate()));
+        }
+        return todos;
+    }
+
+    @Override
+    public void restore(List<Todo> todosSortedById, int[] idsByTitle, int[] idsByDueDate) {
+        todoDB = new IntTodoHashMap(todosSortedById.size());
+        todosByStatus = createStatusBuckets();
+        sortedIndexes = createSortedIndexes();
+        titleCounts = new HashMap<>();
+        for (Todo todo : todosSortedById) {
+            todoDB.put(todo.getId(), todo);
+            statusBucket(todo.getStatus()).put(todo.getId(), todo);
+            if (todo.getTitle() != null) {
+                titleCounts.merge(todo.getTitle(), 1, Integer::sum);
+            }
+        }
+        Todo[] sortedById = todosSortedById.toArray(new Todo[0]);
+        Todo[] sortedByTitle = lookup(idsByTitle);
+        Todo[] sortedByDueDate = lookup(idsByDueDate);
+        sortedIndexes.get(Status.ALL).bulkLoad(sortedById, sortedByTitle, sortedByDueDate);
+        for (String status : todosByStatus.keySet()) {
+            sortedIndexes.computeIfAbsent(status, s -> new SortedTodoIndex()).bulkLoad(
+                    withStatus(sortedById, status), withStatus(sortedByTitle, status), withStatus(sortedByDueDate, status));
+        }
+    }
+
+    @Override
+    public void clear() {
+        todoDB = new IntTodoHashMap();
+        todosByStatus = createStatusBuckets();
+        sortedIndexes = createSortedIndexes();
+        titleCounts = new HashMap<>();
+    }
+
+    private void index(Todo todo) {
+        if (todo.getTitle() != null) {
+            titleCounts.merge(todo.getTitle(), 1, Integer::sum);
+        }
+        statusBucket(todo.getStatus()).put(todo.getId(), todo);
+        sortedIndexes.get(Status.ALL).add(todo);
+        sortedIndexes.computeIfAbsent(todo.getStatus(), s -> new SortedTodoIndex()).add(todo);
+    }
+
+    private void unindex(Todo todo) {
+        if (todo.getTitle() != null) {
+            titleCounts.computeIfPresent(todo.getTitle(), (title, count) -> count == 1 ? null : count - 1);
+        }
+        statusBucket(todo.getStatus()).remove(todo.getId());
+        sortedIndexes.get(Status.ALL).remove(todo);
+        sortedIndexes.get(todo.getStatus()).remove(todo);
+    }
+
+    private static Todo dueDateProbe(long dueDate) {
+        return new Todo(Integer.MIN_VALUE, null, null, null, dueDate);
+    }
+
+    private Todo[] lookup(int[] ids) {
+        Todo[] todos = new Todo[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            todos[i] = todoDB.get(ids[i]);
+        }
+        return todos;
+    }
+
+    private static Todo[] withStatus(Todo[] todos, String status) {
+        return Arrays.stream(todos)
+                .filter(todo -> todo.getStatus().equals(status))
+                .toArray(Todo[]::new);
+    }
+
+    private IntTodoHashMap statusBucket(String status) {
+        return todosByStatus.computeIfAbsent(status, s -> new IntTodoHashMap());
+    }
+
+    private Map<String, IntTodoHashMap> createStatusBuckets() {
+        Map<String, IntTodoHashMap> buckets = new HashMap<>();
+        buckets.put(Status.PENDING, new IntTodoHashMap());
+        buckets.put(Status.DONE, new IntTodoHashMap());
+        buckets.put(Status.LATE, new IntTodoHashMap());
+        return buckets;
+    }
+
+    private Map<String, SortedTodoIndex> createSortedIndexes() {
+        Map<String, SortedTodoIndex> indexes = new HashMap<>();
+        indexes.put(Status.ALL, new SortedTodoIndex());
+        indexes.put(Status.PENDING, new SortedTodoIndex());
+        indexes.put(Status.DONE, new SortedTodoIndex());
+        indexes.put(Status.LATE, new SortedTodoIndex());
+        return indexes;
+    }
+}
@@ -0,0 +1,17 @@
+package com.shai.to_do.repository.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StorageEngineConfiguration {
+
+    @Bean
+    public TodoStorageEngine todoStorageEngine(@Value("${todo.storage.engine:HEAP}") StorageEngineType storageEngineType) {
+        return switch (storageEngineType) {
+            case HEAP -> new HeapTodoStorageEngine();
+            case COLUMNAR -> new ColumnarTodoStorageEngine();
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.shai.to_do.repository.engine;
+
+public enum StorageEngineType {
+    HEAP,
+    COLUMNAR
+}
@@ -0,0 +1,42 @@
+package com.shai.to_do.repository.engine;
+
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
+
+import java.util.List;
+
+public interface TodoStorageEngine {
+    void put(Todo todo);
+
+    boolean contains(int id);
+
+    Todo get(int id);
+
+    boolean containsTitle(String title);
+
+    String updateStatus(int id, String status);
+
+    boolean remove(int id);
+
+    int size();
+
+    boolean materializesTodos();
+
+    int countByStatus(String status);
+
+    List<Todo> findByStatus(String status);
+
+    List<Todo> findByStatusSortedBy(String status, String sortBy);
+
+    List<Todo> findPageByStatusSortedBy(String status, String sortBy, Todo after, int limit);
+
+    int[] idsSortedBy(String sortBy);
+
+    int[] findIdsMatching(TodoFilter filter);
+
+    List<Todo> exportSortedById();
+
+    void restore(List<Todo> todosSortedById, int[] idsByTitle, int[] idsByDueDate);
+
+    void clear();
+}
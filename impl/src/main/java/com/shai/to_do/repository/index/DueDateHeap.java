@@ -0,0 +1,76 @@
+package com.shai.to_do.repository.index;
+
+import java.util.Arrays;
+
+public class DueDateHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] dueDates = new long[DEFAULT_CAPACITY];
+    private int[] ids = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    public void push(long dueDate, int id) {
+        if (size == dueDates.length) {
+            dueDates = Arrays.copyOf(dueDates, size << 1);
+            ids = Arrays.copyOf(ids, size << 1);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (dueDates[parent] <= dueDate) {
+                break;
+            }
+            dueDates[index] = dueDates[parent];
+            ids[index] = ids[parent];
+            index = parent;
+        }
+        dueDates[index] = dueDate;
+        ids[index] = id;
+    }
+
+    public long peekDueDate() {
+        if (size == 0) {
+            throw new IllegalStateException("heap is empty");
+        }
+        return dueDates[0];
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("heap is empty");
+        }
+        int top = ids[0];
+        size--;
+        long dueDate = dueDates[size];
+        int id = ids[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && dueDates[child + 1] < dueDates[child]) {
+                child++;
+            }
+            if (dueDate <= dueDates[child]) {
+                break;
+            }
+            dueDates[index] = dueDates[child];
+            ids[index] = ids[child];
+            index = child;
+        }
+        dueDates[index] = dueDate;
+        ids[index] = id;
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
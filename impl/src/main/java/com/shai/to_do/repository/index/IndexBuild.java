@@ -0,0 +1,6 @@
+package com.shai.to_do.repository.index;
+
+public enum IndexBuild {
+    EAGER,
+    LAZY
+}
@@ -0,0 +1,116 @@
+package com.shai.to_do.repository.index;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+public class SlotHashSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int EMPTY = -1;
+
+    private final IntUnaryOperator slotHash;
+    private int[] slots;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public SlotHashSet(IntUnaryOperator slotHash) {
+        this(DEFAULT_CAPACITY, slotHash);
+    }
+
+    public SlotHashSet(int expectedSize, IntUnaryOperator slotHash) {
+        this.slotHash = slotHash;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public void add(int slot) {
+        insert(slot);
+        if (++size > resizeThreshold) {
+            rehash(slots.length << 1);
+        }
+    }
+
+    public boolean remove(int slot) {
+        int index = homeOf(slot);
+        while (slots[index] != slot) {
+            if (slots[index] == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        shiftBackFrom(index);
+        size--;
+        return true;
+    }
+
+    public boolean contains(int hash, IntPredicate matches) {
+        int index = mix(hash) & mask;
+        while (slots[index] != EMPTY) {
+            if (matches.test(slots[index])) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(int slot) {
+        int index = homeOf(slot);
+        while (slots[index] != EMPTY) {
+            index = (index + 1) & mask;
+        }
+        slots[index] = slot;
+    }
+
+    private void shiftBackFrom(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (slots[index] == EMPTY) {
+                break;
+            }
+            int home = homeOf(slots[index]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                slots[gap] = slots[index];
+                gap = index;
+            }
+        }
+        slots[gap] = EMPTY;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldSlots = slots;
+        allocate(newCapacity);
+        for (int slot : oldSlots) {
+            if (slot != EMPTY) {
+                insert(slot);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int homeOf(int slot) {
+        return mix(slotHash.applyAsInt(slot)) & mask;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(DEFAULT_CAPACITY, capacity);
+    }
+}
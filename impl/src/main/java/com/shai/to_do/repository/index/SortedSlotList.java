@@ -0,0 +1,210 @@
+package com.shai.to_do.repository.index;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+public class SortedSlotList {
+    private static final int MAX_BLOCK_SIZE = 1024;
+    private static final int BULK_BLOCK_SIZE = MAX_BLOCK_SIZE * 3 / 4;
+    private static final int INITIAL_BLOCKS = 4;
+
+    private final SlotComparator comparator;
+    private int[][] blocks;
+    private int[] blockSizes;
+    private int blockCount;
+    private int size;
+
+    public SortedSlotList(SlotComparator comparator) {
+        this.comparator = comparator;
+        clear();
+    }
+
+    public void add(int slot) {
+        if (blockCount == 0) {
+            int[] slots = new int[MAX_BLOCK_SIZE];
+            slots[0] = slot;
+            insertBlock(0, slots, 1);
+            size++;
+            return;
+        }
+        int block = firstBlockEndingAfter(slot, false);
+        if (block == blockCount) {
+            block--;
+        }
+        int[] slots = blocks[block];
+        int blockSize = blockSizes[block];
+        int position = insertionPoint(slots, blockSize, slot);
+        System.arraycopy(slots, position, slots, position + 1, blockSize - position);
+        slots[position] = slot;
+        blockSizes[block]++;
+        size++;
+        if (blockSizes[block] == MAX_BLOCK_SIZE) {
+            split(block);
+        }
+    }
+
+    public boolean remove(int slot) {
+        int block = firstBlockEndingAfter(slot, true);
+        if (block == blockCount) {
+            return false;
+        }
+        int[] slots = blocks[block];
+        int blockSize = blockSizes[block];
+        int position = insertionPoint(slots, blockSize, slot) - 1;
+        if (position < 0 || slots[position] != slot) {
+            return false;
+        }
+        System.arraycopy(slots, position + 1, slots, position, blockSize - position - 1);
+        size--;
+        if (--blockSizes[block] == 0) {
+            removeBlock(block);
+        }
+        return true;
+    }
+
+    public void bulkLoad(int[] sortedSlots, int count) {
+        clear();
+        for (int from = 0; from < count; from += BULK_BLOCK_SIZE) {
+            int blockSize = Math.min(BULK_BLOCK_SIZE, count - from);
+            int[] slots = new int[MAX_BLOCK_SIZE];
+            System.arraycopy(sortedSlots, from, slots, 0, blockSize);
+            insertBlock(blockCount, slots, blockSize);
+        }
+        size = count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        blocks = new int[INITIAL_BLOCKS][];
+        blockSizes = new int[INITIAL_BLOCKS];
+        blockCount = 0;
+        size = 0;
+    }
+
+    public Cursor cursor() {
+        return new Cursor(0, 0);
+    }
+
+    public Cursor cursorAfter(IntPredicate atOrBefore) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (atOrBefore.test(blocks[middle][blockSizes[middle] - 1])) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == blockCount) {
+            return new Cursor(blockCount, 0);
+        }
+        int[] slots = blocks[low];
+        int from = 0;
+        int to = blockSizes[low];
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (atOrBefore.test(slots[middle])) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return new Cursor(low, from);
+    }
+
+    private int firstBlockEndingAfter(int slot, boolean inclusive) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(blocks[middle][blockSizes[middle] - 1], slot);
+            if (result < 0 || (result == 0 && !inclusive)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int insertionPoint(int[] slots, int blockSize, int slot) {
+        int low = 0;
+        int high = blockSize;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(slots[middle], slot) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void split(int block) {
+        int[] slots = blocks[block];
+        int half = MAX_BLOCK_SIZE / 2;
+        int[] upper = new int[MAX_BLOCK_SIZE];
+        System.arraycopy(slots, half, upper, 0, MAX_BLOCK_SIZE - half);
+        blockSizes[block] = half;
+        insertBlock(block + 1, upper, MAX_BLOCK_SIZE - half);
+    }
+
+    private void insertBlock(int index, int[] slots, int blockSize) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            blockSizes = Arrays.copyOf(blockSizes, blockCount * 2);
+        }
+        System.arraycopy(blocks, index, blocks, index + 1, blockCount - index);
+        System.arraycopy(blockSizes, index, blockSizes, index + 1, blockCount - index);
+        blocks[index] = slots;
+        blockSizes[index] = blockSize;
+        blockCount++;
+    }
+
+    private void removeBlock(int index) {
+        System.arraycopy(blocks, index + 1, blocks, index, blockCount - index - 1);
+        System.arraycopy(blockSizes, index + 1, blockSizes, index, blockCount - index - 1);
+        blocks[--blockCount] = null;
+    }
+
+    @FunctionalInterface
+    public interface SlotComparator {
+        int compare(int slot1, int slot2);
+    }
+
+    public class Cursor {
+        private int block;
+        private int position;
+
+        private Cursor(int block, int position) {
+            this.block = block;
+            this.position = position;
+        }
+
+        public boolean hasNext() {
+            return block < blockCount;
+        }
+
+        public int peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return blocks[block][position];
+        }
+
+        public int next() {
+            int slot = peek();
+            if (++position == blockSizes[block]) {
+                block++;
+                position = 0;
+            }
+            return slot;
+        }
+    }
+}
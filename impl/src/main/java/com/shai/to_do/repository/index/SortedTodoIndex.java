@@ -0,0 +1,157 @@
+package com.shai.to_do.repository.index;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.entity.Todo;
+
+import java.util.*;
+
+public class SortedTodoIndex {
+    public static final Comparator<Todo> BY_ID = (t1, t2) -> Integer.compare(t1.getId(), t2.getId());
+
+    public static final Comparator<Todo> BY_TITLE = (t1, t2) -> {
+        int result = compareNullsFirst(t1.getTitle(), t2.getTitle());
+        return result != 0 ? result : BY_ID.compare(t1, t2);
+    };
+
+    public static final Comparator<Todo> BY_DUE_DATE = (t1, t2) -> {
+        int result = compareNullsFirst(t1.getDueDate(), t2.getDueDate());
+        return result != 0 ? result : BY_ID.compare(t1, t2);
+    };
+
+    private final NavigableSet<Todo> byId = new TreeSet<>(BY_ID);
+    private final NavigableSet<Todo> byTitle = new TreeSet<>(BY_TITLE);
+    private final NavigableSet<Todo> byDueDate = new TreeSet<>(BY_DUE_DATE);
+
+    public void add(Todo todo) {
+        byId.add(todo);
+        byTitle.add(todo);
+        byDueDate.add(todo);
+    }
+
+    public void remove(Todo todo) {
+        byId.remove(todo);
+        byTitle.remove(todo);
+        byDueDate.remove(todo);
+    }
+
+    public void bulkLoad(Todo[] sortedById, Todo[] sortedByTitle, Todo[] sortedByDueDate) {
+        byId.addAll(new SortedArrayView(sortedById, BY_ID));
+        byTitle.addAll(new SortedArrayView(sortedByTitle, BY_TITLE));
+        byDueDate.addAll(new SortedArrayView(sortedByDueDate, BY_DUE_DATE));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public NavigableSet<Todo> sortedBy(String sortBy) {
+        return switch (sortBy) {
+            case SortBy.TITLE -> byTitle;
+            case SortBy.DUE_DATE -> byDueDate;
+            default -> byId;
+        };
+    }
+
+    private static <T extends Comparable<T>> int compareNullsFirst(T v1, T v2) {
+        if (v1 == v2) {
+            return 0;
+        }
+        if (v1 == null) {
+            return -1;
+        }
+        if (v2 == null) {
+            return 1;
+        }
+        return v1.compareTo(v2);
+    }
+
+    private static class SortedArrayView extends AbstractSet<Todo> implements SortedSet<Todo> {
+        private final Todo[] sorted;
+        private final Comparator<Todo> comparator;
+        private final int from;
+        private final int to;
+
+        private SortedArrayView(Todo[] sorted, Comparator<Todo> comparator) {
+            this(sorted, comparator, 0, sorted.length);
+        }
+
+        private SortedArrayView(Todo[] sorted, Comparator<Todo> comparator, int from, int to) {
+            this.sorted = sorted;
+            this.comparator = comparator;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Todo> iterator() {
+            return Arrays.asList(sorted).subList(from, to).iterator();
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            if (!(element instanceof Todo todo)) {
+                return false;
+            }
+            int index = lowerBound(todo);
+            return index < to && comparator.compare(sorted[index], todo) == 0;
+        }
+
+        @Override
+        public Comparator<? super Todo> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public Todo first() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return sorted[from];
+        }
+
+        @Override
+        public Todo last() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return sorted[to - 1];
+        }
+
+        @Override
+        public SortedSet<Todo> subSet(Todo fromElement, Todo toElement) {
+            if (comparator.compare(fromElement, toElement) > 0) {
+                throw new IllegalArgumentException("fromElement > toElement");
+            }
+            return new SortedArrayView(sorted, comparator, lowerBound(fromElement), lowerBound(toElement));
+        }
+
+        @Override
+        public SortedSet<Todo> headSet(Todo toElement) {
+            return new SortedArrayView(sorted, comparator, from, lowerBound(toElement));
+        }
+
+        @Override
+        public SortedSet<Todo> tailSet(Todo fromElement) {
+            return new SortedArrayView(sorted, comparator, lowerBound(fromElement), to);
+        }
+
+        private int lowerBound(Todo element) {
+            int low = from;
+            int high = to;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(sorted[middle], element) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
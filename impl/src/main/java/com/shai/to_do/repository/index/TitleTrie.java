@@ -0,0 +1,241 @@
+package com.shai.to_do.repository.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class TitleTrie {
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final String[] NO_TITLES = new String[0];
+    private static final char[] NO_LABEL = new char[0];
+
+    private Node root;
+    private int size;
+
+    public TitleTrie() {
+        clear();
+    }
+
+    public void add(String title) {
+        if (title == null) {
+            return;
+        }
+        String key = fold(title);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int childIndex = node.childIndex(key.charAt(depth));
+            if (childIndex < 0) {
+                Node leaf = new Node(key.substring(depth).toCharArray());
+                node.insertChild(-childIndex - 1, leaf);
+                node = leaf;
+                break;
+            }
+            Node child = node.children[childIndex];
+            int common = commonPrefixLength(child.label, key, depth);
+            if (common < child.label.length) {
+                Node split = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                split.children = new Node[]{child};
+                node.children[childIndex] = split;
+                child = split;
+            }
+            node = child;
+            depth += common;
+        }
+        node.titles = Arrays.copyOf(node.titles, node.titles.length + 1);
+        node.titles[node.titles.length - 1] = title;
+        size++;
+    }
+
+    public boolean remove(String title) {
+        if (title == null || !remove(root, fold(title), 0, title)) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    public boolean contains(String title) {
+        if (title == null) {
+            return false;
+        }
+        Node node = find(fold(title));
+        if (node == null) {
+            return false;
+        }
+        for (String candidate : node.titles) {
+            if (candidate.equals(title)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> findByPrefix(String prefix, int limit) {
+        List<String> titles = new ArrayList<>(Math.min(limit, 64));
+        String key = fold(prefix);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int childIndex = node.childIndex(key.charAt(depth));
+            if (childIndex < 0) {
+                return titles;
+            }
+            node = node.children[childIndex];
+            int common = commonPrefixLength(node.label, key, depth);
+            if (common < node.label.length && depth + common < key.length()) {
+                return titles;
+            }
+            depth += common;
+        }
+        collect(node, titles, limit);
+        return titles;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root = new Node(NO_LABEL);
+        size = 0;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int childIndex = node.childIndex(key.charAt(depth));
+            if (childIndex < 0) {
+                return null;
+            }
+            node = node.children[childIndex];
+            if (commonPrefixLength(node.label, key, depth) < node.label.length) {
+                return null;
+            }
+            depth += node.label.length;
+        }
+        return node;
+    }
+
+    private static boolean remove(Node node, String key, int depth, String title) {
+        if (depth == key.length()) {
+            return node.removeTitle(title);
+        }
+        int childIndex = node.childIndex(key.charAt(depth));
+        if (childIndex < 0) {
+            return false;
+        }
+        Node child = node.children[childIndex];
+        if (commonPrefixLength(child.label, key, depth) < child.label.length
+                || !remove(child, key, depth + child.label.length, title)) {
+            return false;
+        }
+        if (child.titles.length == 0 && child.children.length == 0) {
+            node.removeChild(childIndex);
+        } else if (child.titles.length == 0 && child.children.length == 1) {
+            Node grandchild = child.children[0];
+            char[] label = Arrays.copyOf(child.label, child.label.length + grandchild.label.length);
+            System.arraycopy(grandchild.label, 0, label, child.label.length, grandchild.label.length);
+            grandchild.label = label;
+            node.children[childIndex] = grandchild;
+        }
+        return true;
+    }
+
+    private static boolean collect(Node node, List<String> titles, int limit) {
+        for (int i = 0; i < node.titles.length; i++) {
+            if (titles.size() == limit) {
+                return false;
+            }
+            if (!isRepeated(node.titles, i)) {
+                titles.add(node.titles[i]);
+            }
+        }
+        for (Node child : node.children) {
+            if (!collect(child, titles, limit)) {
+                return false;
+            }
+        }
+        return titles.size() < limit;
+    }
+
+    private static boolean isRepeated(String[] titles, int index) {
+        for (int i = 0; i < index; i++) {
+            if (titles[i].equals(titles[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefixLength(char[] label, String key, int offset) {
+        int length = Math.min(label.length, key.length() - offset);
+        int i = 0;
+        while (i < length && label[i] == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String fold(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private String[] titles = NO_TITLES;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midFirst = children[mid].label[0];
+                if (midFirst < first) {
+                    low = mid + 1;
+                } else if (midFirst > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        void removeChild(int index) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, shrunk.length - index);
+            children = shrunk;
+        }
+
+        boolean removeTitle(String title) {
+            for (int i = 0; i < titles.length; i++) {
+                if (titles[i].equals(title)) {
+                    String[] remaining = new String[titles.length - 1];
+                    System.arraycopy(titles, 0, remaining, 0, i);
+                    System.arraycopy(titles, i + 1, remaining, i, remaining.length - i);
+                    titles = remaining;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
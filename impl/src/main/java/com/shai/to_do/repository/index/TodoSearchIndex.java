@@ -0,0 +1,357 @@
+package com.shai.to_do.repository.index;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.StatusCodes;
+
+import java.util.*;
+
+public class TodoSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int INITIAL_STATUS_CAPACITY = 1024;
+
+    private Map<String, PostingList> postingsByTerm;
+    private byte[] statusById;
+    private int documentCount;
+
+    public TodoSearchIndex() {
+        clear();
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    public void add(Todo todo) {
+        termWeights(todo).forEach((term, weight) ->
+                postingsByTerm.computeIfAbsent(term, t -> new PostingList()).add(todo.getId(), weight));
+        updateStatus(todo.getId(), todo.getStatus());
+        documentCount++;
+    }
+
+    public void remove(Todo todo) {
+        for (String term : termWeights(todo).keySet()) {
+            PostingList postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(todo.getId()) && postings.liveSize() == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+        documentCount--;
+    }
+
+    public void updateStatus(int id, String status) {
+        if (id >= statusById.length) {
+            statusById = Arrays.copyOf(statusById, Math.max(id + 1, statusById.length * 2));
+        }
+        statusById[id] = StatusCodes.code(status);
+    }
+
+    public void clear() {
+        postingsByTerm = new HashMap<>();
+        statusById = new byte[INITIAL_STATUS_CAPACITY];
+        documentCount = 0;
+    }
+
+    public int size() {
+        return documentCount;
+    }
+
+    public int termCount() {
+        return postingsByTerm.size();
+    }
+
+    public Hits search(Collection<String> terms, boolean matchAll, String status, int limit) {
+        List<PostingList> postings = new ArrayList<>(terms.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            PostingList termPostings = postingsByTerm.get(term);
+            if (termPostings != null) {
+                postings.add(termPostings);
+            } else if (matchAll) {
+                return Hits.EMPTY;
+            }
+        }
+        if (postings.isEmpty()) {
+            return Hits.EMPTY;
+        }
+        postings.sort(Comparator.comparingInt(PostingList::liveSize));
+        PostingList[] lists = postings.toArray(new PostingList[0]);
+        double[] idfs = new double[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            idfs[i] = Math.log(1 + (double) documentCount / lists[i].liveSize());
+        }
+        byte statusCode = Status.ALL.equals(status) ? StatusCodes.UNKNOWN : StatusCodes.code(status);
+        TopHits topHits = new TopHits(limit);
+        if (matchAll) {
+            intersect(lists, idfs, statusCode, topHits);
+        } else {
+            union(lists, idfs, statusCode, topHits);
+        }
+        return topHits.toHits();
+    }
+
+    private void intersect(PostingList[] lists, double[] idfs, byte statusCode, TopHits topHits) {
+        PostingList driver = lists[0];
+        int[] cursors = new int[lists.length];
+        candidates:
+        for (int i = 0; i < driver.size; i++) {
+            int id = driver.ids[i];
+            if (driver.weights[i] == 0 || !hasStatus(id, statusCode)) {
+                continue;
+            }
+            double score = driver.weights[i] * idfs[0];
+            for (int l = 1; l < lists.length; l++) {
+                PostingList list = lists[l];
+                int position = list.seek(id, cursors[l]);
+                cursors[l] = position;
+                if (position == list.size || list.ids[position] != id || list.weights[position] == 0) {
+                    if (position == list.size) {
+                        break candidates;
+                    }
+                    continue candidates;
+                }
+                score += list.weights[position] * idfs[l];
+            }
+            topHits.offer(id, score);
+        }
+    }
+
+    private void union(PostingList[] lists, double[] idfs, byte statusCode, TopHits topHits) {
+        int[] cursors = new int[lists.length];
+        while (true) {
+            int id = Integer.MAX_VALUE;
+            boolean exhausted = true;
+            for (int l = 0; l < lists.length; l++) {
+                if (cursors[l] < lists[l].size) {
+                    exhausted = false;
+                    id = Math.min(id, lists[l].ids[cursors[l]]);
+                }
+            }
+            if (exhausted) {
+                return;
+            }
+            double score = 0;
+            for (int l = 0; l < lists.length; l++) {
+                PostingList list = lists[l];
+                if (cursors[l] < list.size && list.ids[cursors[l]] == id) {
+                    score += list.weights[cursors[l]] * idfs[l];
+                    cursors[l]++;
+                }
+            }
+            if (score > 0 && hasStatus(id, statusCode)) {
+                topHits.offer(id, score);
+            }
+        }
+    }
+
+    private boolean hasStatus(int id, byte statusCode) {
+        return statusCode == StatusCodes.UNKNOWN || statusById[id] == statusCode;
+    }
+
+    private static Map<String, Integer> termWeights(Todo todo) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(todo.getTitle())) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(todo.getContent())) {
+            weights.merge(term, 1, Integer::sum);
+        }
+        return weights;
+    }
+
+    public record Hits(int[] ids, int total) {
+        public static final Hits EMPTY = new Hits(new int[0], 0);
+    }
+
+    private static class PostingList {
+        private static final int INITIAL_CAPACITY = 2;
+        private static final int LINEAR_SEEK = 8;
+
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private short[] weights = new short[INITIAL_CAPACITY];
+        private int size;
+        private int removed;
+
+        void add(int id, int weight) {
+            short clampedWeight = (short) Math.min(weight, Short.MAX_VALUE);
+            if (size == 0 || id > ids[size - 1]) {
+                ensureCapacity();
+                ids[size] = id;
+                weights[size++] = clampedWeight;
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                if (weights[position] == 0) {
+                    removed--;
+                }
+                weights[position] = clampedWeight;
+                return;
+            }
+            position = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(weights, position, weights, position + 1, size - position);
+            ids[position] = id;
+            weights[position] = clampedWeight;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0 || weights[position] == 0) {
+                return false;
+            }
+            weights[position] = 0;
+            if (++removed * 2 > size) {
+                compact();
+            }
+            return true;
+        }
+
+        int liveSize() {
+            return size - removed;
+        }
+
+        int seek(int id, int from) {
+            int linearEnd = Math.min(size, from + LINEAR_SEEK);
+            while (from < linearEnd && ids[from] < id) {
+                from++;
+            }
+            if (from < linearEnd || from == size) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && ids[high] < id) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(ids, low, Math.min(high + 1, size), id);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private void compact() {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (weights[i] != 0) {
+                    ids[live] = ids[i];
+                    weights[live++] = weights[i];
+                }
+            }
+            size = live;
+            removed = 0;
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            if (capacity < ids.length) {
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+
+    private static class TopHits {
+        private final int limit;
+        private final int[] ids;
+        private final double[] scores;
+        private int size;
+        private int total;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.ids = new int[limit];
+            this.scores = new double[limit];
+        }
+
+        void offer(int id, double score) {
+            total++;
+            if (size < limit) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (limit > 0 && ranksBefore(id, score, ids[0], scores[0])) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        Hits toHits() {
+            int[] ranked = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                ranked[i] = ids[0];
+                swap(0, --size);
+                siftDown(0);
+            }
+            return new Hits(ranked, total);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksBefore(ids[parent], scores[parent], ids[index], scores[index])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && ranksBefore(ids[worst], scores[worst], ids[left], scores[left])) {
+                    worst = left;
+                }
+                if (right < size && ranksBefore(ids[worst], scores[worst], ids[right], scores[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+
+        private static boolean ranksBefore(int id, double score, int otherId, double otherScore) {
+            return score > otherScore || (score == otherScore && id < otherId);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.repository.TodoCheckpoint;
+import com.shai.to_do.repository.TodoRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Checkpointer implements Closeable {
+    private static final Logger logger = LogManager.getLogger(Checkpointer.class);
+
+    private final TodoRepository todoRepository;
+    private final SnapshotFile snapshotFile;
+    private final WriteAheadLog writeAheadLog;
+    private final ScheduledExecutorService executor;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private long lastCheckpointLsn = -1;
+
+    public Checkpointer(TodoRepository todoRepository, SnapshotFile snapshotFile, WriteAheadLog writeAheadLog,
+                        long intervalMillis) {
+        this.todoRepository = todoRepository;
+        this.snapshotFile = snapshotFile;
+        this.writeAheadLog = writeAheadLog;
+        if (intervalMillis > 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "todo-checkpointer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::checkpointQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            executor = null;
+        }
+    }
+
+    public void checkpoint() throws IOException {
+        checkpointLock.lock();
+        try {
+            TodoCheckpoint checkpoint = todoRepository.checkpoint();
+            if (checkpoint.lsn() == lastCheckpointLsn) {
+                return;
+            }
+            snapshotFile.write(checkpoint);
+            writeAheadLog.truncateUpTo(checkpoint.lsn());
+            lastCheckpointLsn = checkpoint.lsn();
+            logger.info("Wrote snapshot of {} todos up to log sequence number {}", checkpoint.todos().size(), checkpoint.lsn());
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        checkpoint();
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Writing todo snapshot failed", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.shai.to_do.repository.journal;
+
+public enum FsyncPolicy {
+    ALWAYS,
+    GROUP,
+    OS
+}
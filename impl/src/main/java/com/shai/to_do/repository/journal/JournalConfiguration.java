@@ -0,0 +1,48 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.repository.TodoCheckpoint;
+import com.shai.to_do.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Configuration
+@ConditionalOnProperty(name = "todo.wal.enabled", havingValue = "true")
+public class JournalConfiguration {
+
+    @Bean
+    public SnapshotFile snapshotFile(@Value("${todo.wal.snapshot-path:data/todos.snapshot}") String path) {
+        return new SnapshotFile(Path.of(path));
+    }
+
+    @Bean(destroyMethod = "close")
+    public WriteAheadLog writeAheadLog(TodoRepository todoRepository,
+                                       Context context,
+                                       SnapshotFile snapshotFile,
+                                       @Value("${todo.wal.path:data/todos.wal}") String path,
+                                       @Value("${todo.wal.fsync:GROUP}") FsyncPolicy fsyncPolicy,
+                                       @Value("${todo.wal.group-commit-interval-ms:5}") long groupCommitIntervalMillis)
+            throws IOException {
+        Optional<TodoCheckpoint> snapshot = snapshotFile.load();
+        snapshot.ifPresent(todoRepository::restore);
+        WriteAheadLog writeAheadLog = new WriteAheadLog(Path.of(path), fsyncPolicy, groupCommitIntervalMillis);
+        writeAheadLog.replayInto(todoRepository, snapshot.map(TodoCheckpoint::lsn).orElse(0L));
+        context.setIdCounter(Math.max(context.getIdCounter(), todoRepository.getHighestId()));
+        todoRepository.attachJournal(writeAheadLog);
+        return writeAheadLog;
+    }
+
+    @Bean(destroyMethod = "close")
+    public Checkpointer checkpointer(TodoRepository todoRepository,
+                                     SnapshotFile snapshotFile,
+                                     WriteAheadLog writeAheadLog,
+                                     @Value("${todo.wal.snapshot-interval-ms:60000}") long intervalMillis) {
+        return new Checkpointer(todoRepository, snapshotFile, writeAheadLog, intervalMillis);
+    }
+}
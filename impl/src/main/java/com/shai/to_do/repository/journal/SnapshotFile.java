@@ -0,0 +1,170 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoCheckpoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+public class SnapshotFile {
+    private static final int MAGIC = 0x54445331;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int FOOTER_SIZE = Long.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final long MAX_MAPPED_WINDOW = 1L << 30;
+
+    private final Path path;
+
+    public SnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public void write(TodoCheckpoint checkpoint) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putLong(checkpoint.lsn());
+            header.putInt(checkpoint.highestId());
+            header.putInt(checkpoint.todos().size());
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            for (Todo todo : checkpoint.todos()) {
+                int maxRecordSize = Integer.BYTES + TodoRecordCodec.maxSizeOf(todo);
+                if (buffer.remaining() < maxRecordSize) {
+                    flush(channel, buffer, crc);
+                    if (buffer.capacity() < maxRecordSize) {
+                        buffer = ByteBuffer.allocate(maxRecordSize);
+                    }
+                }
+                int start = buffer.position();
+                buffer.position(start + Integer.BYTES);
+                TodoRecordCodec.writeTodo(buffer, todo);
+                buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+            }
+            flush(channel, buffer, crc);
+            writeInts(channel, buffer, crc, checkpoint.idsByTitle());
+            writeInts(channel, buffer, crc, checkpoint.idsByDueDate());
+
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE);
+            footer.putLong(crc.getValue());
+            footer.flip();
+            writeFully(channel, footer);
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public Optional<TodoCheckpoint> load() throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Snapshot " + path + " has an unknown format");
+            }
+            long lsn = header.getLong();
+            int highestId = header.getInt();
+            int count = header.getInt();
+
+            List<Todo> todos = new ArrayList<>(count);
+            CRC32 crc = new CRC32();
+            long position = HEADER_SIZE;
+            long end = size - FOOTER_SIZE;
+            MappedByteBuffer window = map(channel, position, end);
+            for (int i = 0; i < count; i++) {
+                if (window.remaining() < Integer.BYTES
+                        || window.remaining() < Integer.BYTES + window.getInt(window.position())) {
+                    window = map(channel, position, end);
+                }
+                int recordSize = Integer.BYTES + window.getInt(window.position());
+                if (window.remaining() < recordSize) {
+                    throw new IOException("Snapshot " + path + " is truncated");
+                }
+                ByteBuffer record = window.slice(window.position(), recordSize);
+                crc.update(record);
+                window.getInt();
+                todos.add(TodoRecordCodec.readTodo(window));
+                position += recordSize;
+            }
+            if (end - position != 2L * count * Integer.BYTES) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            int[] idsByTitle = readInts(channel, position, count, crc);
+            position += (long) count * Integer.BYTES;
+            int[] idsByDueDate = readInts(channel, position, count, crc);
+
+            ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, end, FOOTER_SIZE);
+            if (footer.getLong() != crc.getValue()) {
+                throw new IOException("Snapshot " + path + " failed its checksum");
+            }
+            return Optional.of(new TodoCheckpoint(lsn, highestId, todos, idsByTitle, idsByDueDate));
+        }
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, CRC32 crc, int[] values) throws IOException {
+        for (int value : values) {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush(channel, buffer, crc);
+            }
+            buffer.putInt(value);
+        }
+        flush(channel, buffer, crc);
+    }
+
+    private static int[] readInts(FileChannel channel, long position, int count, CRC32 crc) throws IOException {
+        int[] values = new int[count];
+        int read = 0;
+        while (read < count) {
+            int chunk = (int) Math.min(count - read, MAX_MAPPED_WINDOW / Integer.BYTES);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position + (long) read * Integer.BYTES, (long) chunk * Integer.BYTES);
+            crc.update(window.duplicate());
+            window.asIntBuffer().get(values, read, chunk);
+            read += chunk;
+        }
+        return values;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long end) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_WINDOW, end - position));
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.entity.Todo;
+
+public interface TodoJournal {
+    TodoJournal NONE = new TodoJournal() {
+        @Override
+        public long logAdd(Todo todo) {
+            return 0;
+        }
+
+        @Override
+        public long logStatusUpdate(int id, String status) {
+            return 0;
+        }
+
+        @Override
+        public long logDelete(int id) {
+            return 0;
+        }
+
+        @Override
+        public long logClear() {
+            return 0;
+        }
+
+        @Override
+        public long lastLsn() {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long lsn) {
+        }
+    };
+
+    long logAdd(Todo todo);
+
+    long logStatusUpdate(int id, String status);
+
+    long logDelete(int id);
+
+    long logClear();
+
+    long lastLsn();
+
+    void awaitDurable(long lsn);
+}
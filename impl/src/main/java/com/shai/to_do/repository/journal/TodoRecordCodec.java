@@ -0,0 +1,71 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.StatusCodes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class TodoRecordCodec {
+    private static final long NO_DUE_DATE = Long.MIN_VALUE;
+
+    private TodoRecordCodec() {
+    }
+
+    public static byte statusCode(String status) {
+        byte code = StatusCodes.code(status);
+        if (code == StatusCodes.UNKNOWN) {
+            throw new IllegalArgumentException("Unknown todo status " + status);
+        }
+        return code;
+    }
+
+    public static String status(byte statusCode) {
+        return StatusCodes.status(statusCode);
+    }
+
+    public static int maxSizeOf(Todo todo) {
+        return Integer.BYTES + Byte.BYTES + Long.BYTES + maxSizeOf(todo.getTitle()) + maxSizeOf(todo.getContent());
+    }
+
+    public static void writeTodo(ByteBuffer buffer, Todo todo) {
+        buffer.putInt(todo.getId());
+        buffer.put(statusCode(todo.getStatus()));
+        buffer.putLong(todo.getDueDate() == null ? NO_DUE_DATE : todo.getDueDate());
+        writeString(buffer, todo.getTitle());
+        writeString(buffer, todo.getContent());
+    }
+
+    public static Todo readTodo(ByteBuffer buffer) {
+        int id = buffer.getInt();
+        String status = status(buffer.get());
+        long dueDate = buffer.getLong();
+        String title = readString(buffer);
+        String content = readString(buffer);
+        return new Todo(id, title, content, status, dueDate == NO_DUE_DATE ? null : dueDate);
+    }
+
+    private static int maxSizeOf(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.length() * 3);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,393 @@
+package com.shai.to_do.repository.journal;
+
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+public class WriteAheadLog implements TodoJournal, Closeable {
+    private static final byte ADD = 1;
+    private static final byte STATUS_UPDATE = 2;
+    private static final byte DELETE = 3;
+    private static final byte CLEAR = 4;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    private static final Logger logger = LogManager.getLogger(WriteAheadLog.class);
+
+    private final Path path;
+    private final FsyncPolicy fsyncPolicy;
+    private final ChannelFactory channelFactory;
+    private FileChannel channel;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private final CRC32 crc = new CRC32();
+    private final ScheduledExecutorService groupCommitExecutor;
+    private ByteBuffer recordBuffer = ByteBuffer.allocate(4096);
+    private long nextLsn = 1;
+    private volatile long writtenLsn;
+    private volatile long durableLsn;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    public WriteAheadLog(Path path, FsyncPolicy fsyncPolicy, long groupCommitIntervalMillis) throws IOException {
+        this(path, fsyncPolicy, groupCommitIntervalMillis, FileChannel::open);
+    }
+
+    public WriteAheadLog(Path path, FsyncPolicy fsyncPolicy, long groupCommitIntervalMillis,
+                         ChannelFactory channelFactory) throws IOException {
+        this.path = path;
+        this.fsyncPolicy = fsyncPolicy;
+        this.channelFactory = channelFactory;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = channelFactory.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        if (fsyncPolicy == FsyncPolicy.GROUP) {
+            groupCommitExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "todo-wal-group-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            groupCommitExecutor.scheduleWithFixedDelay(this::syncQuietly,
+                    groupCommitIntervalMillis, groupCommitIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            groupCommitExecutor = null;
+        }
+    }
+
+    public void replayInto(TodoRepository todoRepository) throws IOException {
+        replayInto(todoRepository, 0);
+    }
+
+    public void replayInto(TodoRepository todoRepository, long afterLsn) throws IOException {
+        appendLock.lock();
+        try {
+            long validEnd = 0;
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.position(0);
+            while (validEnd + HEADER_SIZE <= fileSize) {
+                header.clear();
+                readFully(header);
+                header.flip();
+                int length = header.getInt();
+                int checksum = header.getInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE || validEnd + HEADER_SIZE + length > fileSize) {
+                    break;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                readFully(payload);
+                payload.flip();
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                byte type = payload.get();
+                long lsn = payload.getLong();
+                if (lsn > afterLsn) {
+                    apply(type, payload, todoRepository);
+                }
+                nextLsn = lsn + 1;
+                validEnd += HEADER_SIZE + length;
+            }
+            if (validEnd < fileSize) {
+                logger.warn("Truncating {} bytes of incomplete write-ahead log records from {}", fileSize - validEnd, path);
+                channel.truncate(validEnd);
+            }
+            channel.position(validEnd);
+            nextLsn = Math.max(nextLsn, afterLsn + 1);
+            writtenLsn = nextLsn - 1;
+            durableLsn = writtenLsn;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logAdd(Todo todo) {
+        appendLock.lock();
+        try {
+            ByteBuffer payload = beginRecord(ADD, TodoRecordCodec.maxSizeOf(todo));
+            TodoRecordCodec.writeTodo(payload, todo);
+            return endRecord();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logStatusUpdate(int id, String status) {
+        appendLock.lock();
+        try {
+            ByteBuffer payload = beginRecord(STATUS_UPDATE, Integer.BYTES + Byte.BYTES);
+            payload.putInt(id);
+            payload.put(TodoRecordCodec.statusCode(status));
+            return endRecord();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logDelete(int id) {
+        appendLock.lock();
+        try {
+            ByteBuffer payload = beginRecord(DELETE, Integer.BYTES);
+            payload.putInt(id);
+            return endRecord();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logClear() {
+        appendLock.lock();
+        try {
+            beginRecord(CLEAR, 0);
+            return endRecord();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long lastLsn() {
+        return writtenLsn;
+    }
+
+    @Override
+    public void awaitDurable(long lsn) {
+        if (lsn <= durableLsn || closed) {
+            return;
+        }
+        switch (fsyncPolicy) {
+            case ALWAYS -> sync();
+            case GROUP -> awaitGroupCommit(lsn);
+            case OS -> { }
+        }
+    }
+
+    public void truncateUpTo(long lsn) throws IOException {
+        appendLock.lock();
+        syncLock.lock();
+        try {
+            long fileSize = channel.size();
+            long cut = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + Byte.BYTES + Long.BYTES);
+            while (cut < fileSize) {
+                header.clear();
+                channel.read(header, cut);
+                long recordLsn = header.getLong(HEADER_SIZE + Byte.BYTES);
+                if (recordLsn > lsn) {
+                    break;
+                }
+                cut += HEADER_SIZE + header.getInt(0);
+            }
+            if (cut == 0) {
+                return;
+            }
+            Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel tail = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long transferred = 0;
+                while (cut + transferred < fileSize) {
+                    transferred += channel.transferTo(cut + transferred, fileSize - cut - transferred, tail);
+                }
+                tail.force(true);
+            }
+            channel.close();
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel = channelFactory.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            durableLsn = writtenLsn;
+        } finally {
+            syncLock.unlock();
+            appendLock.unlock();
+        }
+    }
+
+    public void sync() {
+        syncLock.lock();
+        try {
+            ensureNotFailed();
+            long target = writtenLsn;
+            if (target > durableLsn) {
+                channel.force(false);
+                durableLsn = target;
+                synced.signalAll();
+            }
+        } catch (IOException e) {
+            fail(e);
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (groupCommitExecutor != null) {
+            groupCommitExecutor.shutdown();
+        }
+        try {
+            if (failure == null) {
+                sync();
+            }
+        } finally {
+            closed = true;
+            syncLock.lock();
+            try {
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+            channel.close();
+        }
+    }
+
+    private void awaitGroupCommit(long lsn) {
+        syncLock.lock();
+        try {
+            while (durableLsn < lsn && !closed && failure == null) {
+                synced.await();
+            }
+            if (durableLsn < lsn) {
+                ensureNotFailed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            sync();
+        } catch (UncheckedIOException e) {
+            logger.error("Write-ahead log group commit failed", e);
+        }
+    }
+
+    private void fail(IOException e) {
+        syncLock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void ensureNotFailed() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new UncheckedIOException("Write-ahead log " + path + " failed and no longer accepts writes", cause);
+        }
+    }
+
+    private void rollBackTo(long start, IOException cause) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            fail(cause);
+        }
+    }
+
+    private ByteBuffer beginRecord(byte type, int maxBodySize) {
+        ensureNotFailed();
+        int capacity = HEADER_SIZE + Byte.BYTES + Long.BYTES + maxBodySize;
+        if (recordBuffer.capacity() < capacity) {
+            recordBuffer = ByteBuffer.allocate(Math.max(capacity, recordBuffer.capacity() * 2));
+        }
+        recordBuffer.clear();
+        recordBuffer.position(HEADER_SIZE);
+        recordBuffer.put(type);
+        recordBuffer.putLong(nextLsn);
+        return recordBuffer;
+    }
+
+    private long endRecord() {
+        int end = recordBuffer.position();
+        int length = end - HEADER_SIZE;
+        crc.reset();
+        crc.update(recordBuffer.array(), HEADER_SIZE, length);
+        recordBuffer.putInt(0, length);
+        recordBuffer.putInt(Integer.BYTES, (int) crc.getValue());
+        recordBuffer.flip();
+        long start;
+        try {
+            start = channel.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            while (recordBuffer.hasRemaining()) {
+                channel.write(recordBuffer);
+            }
+        } catch (IOException e) {
+            rollBackTo(start, e);
+            throw new UncheckedIOException(e);
+        }
+        long lsn = nextLsn++;
+        writtenLsn = lsn;
+        return lsn;
+    }
+
+    private void apply(byte type, ByteBuffer payload, TodoRepository todoRepository) {
+        switch (type) {
+            case ADD -> todoRepository.add(TodoRecordCodec.readTodo(payload));
+            case STATUS_UPDATE -> {
+                int id = payload.getInt();
+                todoRepository.updateStatusById(id, TodoRecordCodec.status(payload.get()));
+            }
+            case DELETE -> todoRepository.deleteById(payload.getInt());
+            case CLEAR -> todoRepository.clear();
+            default -> throw new IllegalStateException("Unknown write-ahead log record type " + type + " in " + path);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChannelFactory {
+        FileChannel open(Path path, OpenOption... options) throws IOException;
+    }
+}
@@ -0,0 +1,8 @@
+package com.shai.to_do.repository.schedule;
+
+public interface DueDateTracker {
+    DueDateTracker NONE = (id, dueDate) -> {
+    };
+
+    void track(int id, long dueDate);
+}
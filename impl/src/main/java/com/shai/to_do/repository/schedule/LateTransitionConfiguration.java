@@ -0,0 +1,22 @@
+package com.shai.to_do.repository.schedule;
+
+import com.shai.to_do.repository.TodoRepository;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "todo.late-scheduler.enabled", havingValue = "true")
+public class LateTransitionConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public LateTransitionScheduler lateTransitionScheduler(TodoRepository todoRepository) {
+        return new LateTransitionScheduler(todoRepository);
+    }
+
+    @Bean
+    public ApplicationRunner lateTransitionSchedulerStarter(LateTransitionScheduler lateTransitionScheduler) {
+        return args -> lateTransitionScheduler.start();
+    }
+}
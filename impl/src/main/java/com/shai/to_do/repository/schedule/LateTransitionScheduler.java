@@ -0,0 +1,136 @@
+package com.shai.to_do.repository.schedule;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.index.DueDateHeap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class LateTransitionScheduler implements DueDateTracker, Closeable {
+    private static final Logger logger = LogManager.getLogger(LateTransitionScheduler.class);
+    private static final long MAX_WAIT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final int STALE_ENTRY_SLACK = 1 << 16;
+
+    private final TodoRepository todoRepository;
+    private final DueDateHeap heap = new DueDateHeap();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition earliestChanged = lock.newCondition();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public LateTransitionScheduler(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+        worker = new Thread(this::run, "todo-late-transitions");
+        worker.setDaemon(true);
+    }
+
+    public void start() {
+        todoRepository.attachDueDateTracker(this);
+        worker.start();
+    }
+
+    @Override
+    public void track(int id, long dueDate) {
+        lock.lock();
+        try {
+            boolean earliest = heap.isEmpty() || dueDate < heap.peekDueDate();
+            heap.push(dueDate, id);
+            if (earliest) {
+                earliestChanged.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        todoRepository.attachDueDateTracker(NONE);
+        lock.lock();
+        try {
+            earliestChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                compactIfMostlyStale();
+                long now = System.currentTimeMillis();
+                int[] due = awaitDue();
+                if (due.length > 0) {
+                    int updated = todoRepository.markLateIfOverdue(due, System.currentTimeMillis());
+                    logger.debug("Moved {} of {} overdue todos to LATE in {}ms", updated, due.length, System.currentTimeMillis() - now);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Failed to move overdue todos to LATE", e);
+            }
+        }
+    }
+
+    private void compactIfMostlyStale() {
+        if (closed || pending() <= 2L * todoRepository.countByStatus(Status.PENDING) + STALE_ENTRY_SLACK) {
+            return;
+        }
+        lock.lock();
+        try {
+            heap.clear();
+        } finally {
+            lock.unlock();
+        }
+        todoRepository.attachDueDateTracker(this);
+    }
+
+    private int[] awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closed) {
+                if (heap.isEmpty()) {
+                    earliestChanged.await(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                long delay = heap.peekDueDate() - now;
+                if (delay > 0) {
+                    earliestChanged.await(Math.min(delay, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                int[] due = new int[Math.min(heap.size(), MAX_BATCH_SIZE)];
+                int count = 0;
+                while (count < due.length && !heap.isEmpty() && heap.peekDueDate() <= now) {
+                    due[count++] = heap.pop();
+                }
+                return Arrays.copyOf(due, count);
+            }
+            return new int[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -4,14 +4,24 @@ import com.shai.to_do.Context;
 import com.shai.to_do.constants.LogLevels;
 import com.shai.to_do.constants.Resources;
 import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.dto.response.LoggingStatsDTO;
+import com.shai.to_do.dto.response.RecentRequestsDTO;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.logging.CountingAsyncQueueFullPolicy;
+import com.shai.to_do.logging.RecentRequestsBuffer;
 import com.shai.to_do.validators.LogsValidate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.config.Configurator;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 public class LogsService {
 
@@ -19,39 +29,70 @@ public class LogsService {
 
     private final LogsValidate logsValidate;
 
+    private final RecentRequestsBuffer recentRequestsBuffer;
+
     private static final Logger requestLogger = LogManager.getLogger("request-logger");
 
-    public LogsService(Context context, LogsValidate logsValidate) {
+    public LogsService(Context context, LogsValidate logsValidate, RecentRequestsBuffer recentRequestsBuffer) {
         this.context = context;
         this.logsValidate = logsValidate;
+        this.recentRequestsBuffer = recentRequestsBuffer;
     }
 
     public String getLogLevel(String loggerName) throws ResourceNotFoundException {
         context.initLogsInfo();
         logsValidate.validateGetLogLevel(loggerName);
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.GET_LOGGER_LEVEL, Verbs.GET));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.GET_LOGGER_LEVEL, Verbs.GET));
         Logger logger = LogManager.getLogger(loggerName);
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_LOGGER_LEVEL, Verbs.GET));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_LOGGER_LEVEL, Verbs.GET));
+        recordRequest(Resources.GET_LOGGER_LEVEL, Verbs.GET);
         return logger.getLevel().toString().toUpperCase();
     }
 
     public String changeLogLevel(String loggerName, String loggerLevel) throws BadRequestException, ResourceNotFoundException {
         context.initLogsInfo();
         logsValidate.validateChangeLogLevel(loggerName, loggerLevel);
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.SET_LOGGER_LEVEL, Verbs.PUT));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.SET_LOGGER_LEVEL, Verbs.PUT));
         Configurator.setLevel(loggerName, loggerLevel);
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.SET_LOGGER_LEVEL, Verbs.PUT));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.SET_LOGGER_LEVEL, Verbs.PUT));
+        recordRequest(Resources.SET_LOGGER_LEVEL, Verbs.PUT);
         return loggerLevel.toUpperCase();
     }
 
-    private String formatMessageRequestLogger(String logLevel, String resource, String verb) {
-        int requestCounter = context.getRequestCounter();
-        long requestEndTimeInMillis = System.currentTimeMillis();
-        long requestStartTimeInMillis = context.getCurrentRequestStartTime();
+    public LoggingStatsDTO getLoggingStats() {
+        LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
+        List<LoggingStatsDTO.AppenderQueueDTO> queues = loggerContext.getConfiguration().getAppenders().values().stream()
+                .filter(AsyncAppender.class::isInstance)
+                .map(AsyncAppender.class::cast)
+                .map(appender -> new LoggingStatsDTO.AppenderQueueDTO(appender.getName(), appender.getQueueCapacity(), appender.getQueueSize()))
+                .toList();
+        return new LoggingStatsDTO(queues, CountingAsyncQueueFullPolicy.getDroppedEvents());
+    }
+
+    public RecentRequestsDTO getRecentRequests(Optional<String> resource,
+                                               Optional<String> verb,
+                                               Optional<Integer> status,
+                                               Optional<Long> minDurationNanos,
+                                               int limit) throws BadRequestException {
+        context.initLogsInfo();
+        logsValidate.validateGetRecentRequests(limit);
+        List<RecentRequestsBuffer.RequestRecord> requests = recentRequestsBuffer.recent(limit, record ->
+                resource.map(record.resource()::equals).orElse(true)
+                        && verb.map(record.verb()::equalsIgnoreCase).orElse(true)
+                        && status.map(value -> record.status() == value).orElse(true)
+                        && minDurationNanos.map(value -> record.durationNanos() >= value).orElse(true));
+        return new RecentRequestsDTO(recentRequestsBuffer.capacity(), requests);
+    }
 
+    private void recordRequest(String resource, String verb) {
+        recentRequestsBuffer.record(context.getRequestCounter(), resource, verb, HttpStatus.OK.value(),
+                context.getCurrentRequestDurationNanos(), RecentRequestsBuffer.NO_TODO_ID);
+    }
+
+    private String formatMessageRequestLogger(String logLevel, String resource, String verb) {
         return switch(logLevel) {
-            case "INFO" -> "Incoming request | #" + requestCounter + " | resource: " + resource + " | HTTP Verb " + verb;
-            case "DEBUG" -> "request #" + requestCounter + " duration: " + (requestEndTimeInMillis - requestStartTimeInMillis) + "ms";
+            case "INFO" -> "Incoming request | #" + context.getRequestCounter() + " | resource: " + resource + " | HTTP Verb " + verb;
+            case "DEBUG" -> "request #" + context.getRequestCounter() + " duration: " + context.getCurrentRequestDurationMillis() + "ms";
             default -> "";
         };
     }
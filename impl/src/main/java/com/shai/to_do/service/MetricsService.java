@@ -0,0 +1,104 @@
+package com.shai.to_do.service;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.dto.response.LoggingStatsDTO;
+import com.shai.to_do.metrics.LatencyHistogram;
+import com.shai.to_do.metrics.RequestMetrics;
+import com.shai.to_do.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class MetricsService {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final RequestMetrics requestMetrics;
+    private final TodoRepository todoRepository;
+    private final LogsService logsService;
+
+    public MetricsService(RequestMetrics requestMetrics, TodoRepository todoRepository, LogsService logsService) {
+        this.requestMetrics = requestMetrics;
+        this.todoRepository = todoRepository;
+        this.logsService = logsService;
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        writeLatencies(out);
+        writeStore(out);
+        writeErrors(out);
+        writeLogging(out);
+        return out.toString();
+    }
+
+    private void writeLatencies(StringBuilder out) {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> snapshots = requestMetrics.latencySnapshots();
+        header(out, "todo_request_duration_seconds", "summary", "Request latency by resource and HTTP verb");
+        snapshots.forEach((resource, byVerb) -> byVerb.forEach((verb, snapshot) -> {
+            String labels = "resource=\"" + resource + "\",verb=\"" + verb + "\"";
+            for (double quantile : QUANTILES) {
+                sample(out, "todo_request_duration_seconds", labels + ",quantile=\"" + quantile + "\"",
+                        seconds(snapshot.quantileNanos(quantile)));
+            }
+            sample(out, "todo_request_duration_seconds_sum", labels, seconds(snapshot.sumNanos()));
+            sample(out, "todo_request_duration_seconds_count", labels, snapshot.count());
+        }));
+        header(out, "todo_request_duration_seconds_max", "gauge", "Slowest request by resource and HTTP verb");
+        snapshots.forEach((resource, byVerb) -> byVerb.forEach((verb, snapshot) ->
+                sample(out, "todo_request_duration_seconds_max", "resource=\"" + resource + "\",verb=\"" + verb + "\"",
+                        seconds(snapshot.maxNanos()))));
+    }
+
+    private void writeStore(StringBuilder out) {
+        header(out, "todo_store_todos", "gauge", "Todos in the store by status");
+        for (String status : List.of(Status.PENDING, Status.LATE, Status.DONE)) {
+            sample(out, "todo_store_todos", "status=\"" + status + "\"", todoRepository.countByStatus(status));
+        }
+    }
+
+    private void writeErrors(StringBuilder out) {
+        header(out, "todo_errors_total", "counter", "Failed requests by exception type");
+        requestMetrics.errorCounts().forEach((type, count) ->
+                sample(out, "todo_errors_total", "exception=\"" + type + "\"", count));
+    }
+
+    private void writeLogging(StringBuilder out) {
+        LoggingStatsDTO loggingStats = logsService.getLoggingStats();
+        header(out, "todo_logging_queue_depth", "gauge", "Events waiting in each async log appender queue");
+        for (LoggingStatsDTO.AppenderQueueDTO queue : loggingStats.queues()) {
+            sample(out, "todo_logging_queue_depth", "appender=\"" + queue.appender() + "\"", queue.depth());
+        }
+        header(out, "todo_logging_queue_capacity", "gauge", "Capacity of each async log appender queue");
+        for (LoggingStatsDTO.AppenderQueueDTO queue : loggingStats.queues()) {
+            sample(out, "todo_logging_queue_capacity", "appender=\"" + queue.appender() + "\"", queue.capacity());
+        }
+        header(out, "todo_logging_dropped_events_total", "counter", "Log events dropped because an appender queue was full");
+        sample(out, "todo_logging_dropped_events_total", null, loggingStats.droppedEvents());
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,91 @@
+package com.shai.to_do.service;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.dto.TodoDTO;
+import com.shai.to_do.dto.response.*;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.ReactiveTodoRepository;
+import com.shai.to_do.repository.TodoFilter;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+@Service
+public class ReactiveTodoService {
+    private final TodoService todoService;
+    private final ReactiveTodoRepository reactiveTodoRepository;
+    private final Context context;
+
+    public ReactiveTodoService(TodoService todoService, ReactiveTodoRepository reactiveTodoRepository, Context context) {
+        this.todoService = todoService;
+        this.reactiveTodoRepository = reactiveTodoRepository;
+        this.context = context;
+    }
+
+    public Mono<AddResponseDTO> add(TodoDTO todoDTO) {
+        return offload(() -> todoService.add(todoDTO));
+    }
+
+    public Mono<BatchAddResponseDTO> addBatch(List<TodoDTO> todoDTOs) {
+        return offload(() -> todoService.addBatch(todoDTOs));
+    }
+
+    public Mono<CountByStatusResponseDTO> countByStatus(String status, Predicate<String> notModified) {
+        return offload(() -> todoService.countByStatus(status, notModified));
+    }
+
+    public Mono<GetContentResponseDTO> getTodoContentByStatusSortedByField(String status,
+                                                                         Optional<String> sortBy,
+                                                                         Optional<Integer> limit,
+                                                                         Optional<String> cursor,
+                                                                         Predicate<String> notModified) {
+        return offload(() -> todoService.getTodoContentByStatusSortedByField(status, sortBy, limit, cursor, notModified));
+    }
+
+    public Flux<Todo> streamTodoContentByStatusSortedByField(String status,
+                                                             Optional<String> sortBy,
+                                                             Predicate<String> notModified) {
+        return offload(() -> todoService.openTodoContentStream(status, sortBy, notModified))
+                .flatMapMany(sortByValue -> reactiveTodoRepository.findTodoContentByStatusSortedByField(status, sortByValue));
+    }
+
+    public Mono<SearchResponseDTO> search(String query,
+                                          String operator,
+                                          String status,
+                                          Integer limit,
+                                          Predicate<String> notModified) {
+        return offload(() -> todoService.search(query, operator, status, limit, notModified));
+    }
+
+    public Mono<TitlesResponseDTO> getTitlesByPrefix(String prefix, Integer limit, Predicate<String> notModified) {
+        return offload(() -> todoService.getTitlesByPrefix(prefix, limit, notModified));
+    }
+
+    public Mono<UpdateStatusResponseDTO> updateStatus(Integer id, String status) {
+        return offload(() -> todoService.updateStatus(id, status));
+    }
+
+    public Mono<BulkResponseDTO> updateStatusWhere(TodoFilter filter, String status) {
+        return offload(() -> todoService.updateStatusWhere(filter, status));
+    }
+
+    public Mono<BulkResponseDTO> deleteWhere(TodoFilter filter) {
+        return offload(() -> todoService.deleteWhere(filter));
+    }
+
+    public Mono<DeleteResponseDTO> deleteById(Integer id) {
+        return offload(() -> todoService.deleteById(id));
+    }
+
+    private <T> Mono<T> offload(Callable<T> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> context.clearLogsInfo());
+    }
+}
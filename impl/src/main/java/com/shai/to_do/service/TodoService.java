@@ -3,6 +3,7 @@ package com.shai.to_do.service;
 import com.shai.to_do.Context;
 import com.shai.to_do.constants.LogLevels;
 import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.SearchOperator;
 import com.shai.to_do.constants.SortBy;
 import com.shai.to_do.constants.Verbs;
 import com.shai.to_do.dto.TodoDTO;
@@ -12,16 +13,29 @@ import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.logging.RecentRequestsBuffer;
 import com.shai.to_do.mapper.TodoDTOToTodoEntityMapper;
 import com.shai.to_do.mapper.response.*;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.TodoSearchResult;
+import com.shai.to_do.repository.index.TodoSearchIndex;
+import com.shai.to_do.util.TodoCursorCodec;
 import com.shai.to_do.util.TodoLoggerFormatter;
 import com.shai.to_do.validators.TodoValidate;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -30,88 +44,276 @@ public class TodoService {
     private final TodoDTOToTodoEntityMapper todoDTOToTodoEntityMapper;
     private final TodoRepository todoRepository;
     private final AddResponseToAddResponseDTOMapper addResponseToAddResponseDTOMapper;
+    private final BatchAddResponseToBatchAddResponseDTOMapper batchAddResponseToBatchAddResponseDTOMapper;
     private final CountByStatusResponseToCountByStatusResponseDTOMapper countByStatusResponseToCountByStatusResponseDTOMapper;
     private final DeleteResponseToDeleteResponseDTOMapper deleteResponseToDeleteResponseDTOMapper;
+    private final BulkResponseToBulkResponseDTOMapper bulkResponseToBulkResponseDTOMapper;
     private final GetContentResponseToGetContentResponseDTOMapper getContentResponseToGetContentResponseDTOMapper;
     private final UpdateStatusResponseToUpdateStatusResponseDTOMapper updateStatusResponseToUpdateStatusResponseDTOMapper;
+    private final SearchResponseToSearchResponseDTOMapper searchResponseToSearchResponseDTOMapper;
+    private final TitlesResponseToTitlesResponseDTOMapper titlesResponseToTitlesResponseDTOMapper;
     private final Context context;
     private final TodoLoggerFormatter todoLoggerFormatter;
+    private final TodoCursorCodec todoCursorCodec;
+    private final ObjectMapper objectMapper;
+    private final RecentRequestsBuffer recentRequestsBuffer;
     private static final Logger requestLogger = LogManager.getLogger("request-logger");
     private static final Logger todoLogger = LogManager.getLogger("todo-logger");
+    private static final int STREAM_PAGE_SIZE = 1_000;
 
     public AddResponseDTO add(TodoDTO todoDTO) throws TodoAlreadyExistsException, DueDateExpiredException {
         context.initLogsInfo();
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.ADD, Verbs.POST));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.ADD, Verbs.POST));
         todoValidate.validateAdd(todoDTO);
         Todo todo = todoDTOToTodoEntityMapper.map(todoDTO);
         todoRepository.add(todo);
         AddResponseDTO addResponseDTO = addResponseToAddResponseDTOMapper.map(todo.getId());
-        todoLogger.info(todoLoggerFormatter.add(todoDTO, LogLevels.INFO));
-        todoLogger.debug(todoLoggerFormatter.add(todoDTO, LogLevels.DEBUG));
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.ADD, Verbs.POST));
+        todoLogger.info(() -> todoLoggerFormatter.add(todoDTO, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.add(todoDTO, LogLevels.DEBUG));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.ADD, Verbs.POST));
+        recordRequest(Resources.ADD, Verbs.POST, todo.getId());
         return addResponseDTO;
     }
 
-    public CountByStatusResponseDTO countByStatus(String status) throws BadRequestException {
+    public BatchAddResponseDTO addBatch(List<TodoDTO> todoDTOs) throws BadRequestException {
         context.initLogsInfo();
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.COUNT_BY_STATUS, Verbs.GET));
-        todoLogger.info(todoLoggerFormatter.countByStatus(status));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.ADD_BATCH, Verbs.POST));
+        List<String> errors = todoValidate.validateAddBatch(todoDTOs);
+        int validCount = (int) errors.stream().filter(error -> error == null).count();
+        int nextId = validCount == 0 ? 0 : context.reserveIds(validCount);
+        List<Todo> todos = new ArrayList<>(validCount);
+        List<BatchAddItemDTO> items = new ArrayList<>(todoDTOs.size());
+        for (int i = 0; i < todoDTOs.size(); i++) {
+            if (errors.get(i) == null) {
+                Todo todo = todoDTOToTodoEntityMapper.map(todoDTOs.get(i), nextId++);
+                todos.add(todo);
+                items.add(new BatchAddItemDTO(todo.getId(), null));
+            } else {
+                items.add(new BatchAddItemDTO(null, errors.get(i)));
+            }
+        }
+        todoRepository.addAll(todos);
+        todoLogger.info(() -> todoLoggerFormatter.addBatch(todoDTOs.size(), validCount, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.addBatch(todoDTOs.size(), validCount, LogLevels.DEBUG));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.ADD_BATCH, Verbs.POST));
+        recordRequest(Resources.ADD_BATCH, Verbs.POST, RecentRequestsBuffer.NO_TODO_ID);
+        return batchAddResponseToBatchAddResponseDTOMapper.map(items, validCount);
+    }
+
+    public CountByStatusResponseDTO countByStatus(String status, Predicate<String> notModified) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.COUNT_BY_STATUS, Verbs.GET));
+        todoLogger.info(() -> todoLoggerFormatter.countByStatus(status));
         todoValidate.validateCountByStatus(status);
+        if (isNotModified(notModified, Resources.COUNT_BY_STATUS)) {
+            return null;
+        }
         CountByStatusResponseDTO countByStatusResponseDTO =
                 countByStatusResponseToCountByStatusResponseDTOMapper.map(todoRepository.countByStatus(status));
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.COUNT_BY_STATUS, Verbs.GET));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.COUNT_BY_STATUS, Verbs.GET));
+        recordRequest(Resources.COUNT_BY_STATUS, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID);
         return countByStatusResponseDTO;
     }
 
     public GetContentResponseDTO getTodoContentByStatusSortedByField(String status,
-                                                                     Optional<String> sortBy) throws BadRequestException {
+                                                                     Optional<String> sortBy,
+                                                                     Optional<Integer> limit,
+                                                                     Optional<String> cursor,
+                                                                     Predicate<String> notModified) throws BadRequestException {
         context.initLogsInfo();
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
         String sortByValue = sortBy.orElse(SortBy.ID);
-        todoLogger.info(todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.INFO));
-        todoLogger.debug(todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.DEBUG));
+        todoLogger.info(() -> todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.DEBUG));
         todoValidate.validateGetTodoContentByStatusSortedByField(status, sortByValue);
-        GetContentResponseDTO getContentResponseDTO =
-                getContentResponseToGetContentResponseDTOMapper.map(todoRepository.findTodoContentByStatusSortedByField(status, sortByValue));
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
+        int limitValue = limit.orElse(TodoValidate.MAX_PAGE_LIMIT);
+        todoValidate.validatePageLimit(limitValue);
+        Todo after = cursor.isPresent() ? todoCursorCodec.decode(sortByValue, cursor.get()) : null;
+        if (isNotModified(notModified, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD)) {
+            return null;
+        }
+        GetContentResponseDTO getContentResponseDTO = limit.isEmpty() && cursor.isEmpty()
+                ? getContentResponseToGetContentResponseDTOMapper.map(todoRepository.findTodoContentByStatusSortedByField(status, sortByValue))
+                : getTodoContentPage(status, sortByValue, limitValue, after);
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
+        recordRequest(Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID);
         return getContentResponseDTO;
     }
 
+    public StreamingResponseBody streamTodoContentByStatusSortedByField(String status,
+                                                                       Optional<String> sortBy,
+                                                                       Predicate<String> notModified) throws BadRequestException {
+        String sortByValue = openTodoContentStream(status, sortBy, notModified);
+        if (sortByValue == null) {
+            return null;
+        }
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+                    .setRootValueSeparator(null)) {
+                Todo after = null;
+                List<Todo> page;
+                do {
+                    page = todoRepository.findTodoContentPageByStatusSortedByField(status, sortByValue, after, STREAM_PAGE_SIZE);
+                    for (Todo todo : page) {
+                        generator.writeObject(todo);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                    after = page.isEmpty() ? null : page.get(page.size() - 1);
+                } while (page.size() == STREAM_PAGE_SIZE);
+            }
+        };
+    }
+
+    public String openTodoContentStream(String status,
+                                        Optional<String> sortBy,
+                                        Predicate<String> notModified) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
+        String sortByValue = sortBy.orElse(SortBy.ID);
+        todoLogger.info(() -> todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.getTodoContentByStatusSortedByField(status, sortByValue, LogLevels.DEBUG));
+        todoValidate.validateGetTodoContentByStatusSortedByField(status, sortByValue);
+        if (isNotModified(notModified, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD)) {
+            return null;
+        }
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET));
+        recordRequest(Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID);
+        return sortByValue;
+    }
+
+    public SearchResponseDTO search(String query,
+                                    String operator,
+                                    String status,
+                                    Integer limit,
+                                    Predicate<String> notModified) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.SEARCH, Verbs.GET));
+        List<String> terms = TodoSearchIndex.tokenize(query);
+        todoValidate.validateSearch(terms, operator, status, limit);
+        if (isNotModified(notModified, Resources.SEARCH)) {
+            return null;
+        }
+        TodoSearchResult searchResult = todoRepository.search(terms, SearchOperator.AND.equals(operator), status, limit);
+        todoLogger.info(() -> todoLoggerFormatter.search(query, operator, status, searchResult.total(), LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.search(query, operator, status, searchResult.total(), LogLevels.DEBUG));
+        SearchResponseDTO searchResponseDTO = searchResponseToSearchResponseDTOMapper.map(searchResult);
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.SEARCH, Verbs.GET));
+        recordRequest(Resources.SEARCH, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID);
+        return searchResponseDTO;
+    }
+
+    public TitlesResponseDTO getTitlesByPrefix(String prefix,
+                                               Integer limit,
+                                               Predicate<String> notModified) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.GET_TITLES_BY_PREFIX, Verbs.GET));
+        todoLogger.info(() -> todoLoggerFormatter.getTitlesByPrefix(prefix, 0, LogLevels.INFO));
+        todoValidate.validateGetTitlesByPrefix(prefix, limit);
+        if (isNotModified(notModified, Resources.GET_TITLES_BY_PREFIX)) {
+            return null;
+        }
+        List<String> titles = todoRepository.findTitlesByPrefix(prefix, limit);
+        todoLogger.debug(() -> todoLoggerFormatter.getTitlesByPrefix(prefix, titles.size(), LogLevels.DEBUG));
+        TitlesResponseDTO titlesResponseDTO = titlesResponseToTitlesResponseDTOMapper.map(titles);
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.GET_TITLES_BY_PREFIX, Verbs.GET));
+        recordRequest(Resources.GET_TITLES_BY_PREFIX, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID);
+        return titlesResponseDTO;
+    }
+
+    public BulkResponseDTO updateStatusWhere(TodoFilter filter, String status) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.BULK_UPDATE_STATUS, Verbs.PUT));
+        todoValidate.validateBulkUpdateStatus(status, filter);
+        int updated = todoRepository.updateStatusWhere(filter, status);
+        todoLogger.info(() -> todoLoggerFormatter.bulkUpdateStatus(filter, status, updated, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.bulkUpdateStatus(filter, status, updated, LogLevels.DEBUG));
+        BulkResponseDTO bulkResponseDTO = bulkResponseToBulkResponseDTOMapper.map(updated);
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.BULK_UPDATE_STATUS, Verbs.PUT));
+        recordRequest(Resources.BULK_UPDATE_STATUS, Verbs.PUT, RecentRequestsBuffer.NO_TODO_ID);
+        return bulkResponseDTO;
+    }
+
+    public BulkResponseDTO deleteWhere(TodoFilter filter) throws BadRequestException {
+        context.initLogsInfo();
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.BULK_DELETE, Verbs.DELETE));
+        todoValidate.validateBulkFilter(filter);
+        int deleted = todoRepository.deleteWhere(filter);
+        todoLogger.info(() -> todoLoggerFormatter.bulkDelete(filter, deleted, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.bulkDelete(filter, deleted, LogLevels.DEBUG));
+        BulkResponseDTO bulkResponseDTO = bulkResponseToBulkResponseDTOMapper.map(deleted);
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.BULK_DELETE, Verbs.DELETE));
+        recordRequest(Resources.BULK_DELETE, Verbs.DELETE, RecentRequestsBuffer.NO_TODO_ID);
+        return bulkResponseDTO;
+    }
+
+    private GetContentResponseDTO getTodoContentPage(String status,
+                                                     String sortBy,
+                                                     int limitValue,
+                                                     Todo after) {
+        List<Todo> todos = todoRepository.findTodoContentPageByStatusSortedByField(status, sortBy, after, limitValue + 1);
+        String nextCursor = null;
+        if (todos.size() > limitValue) {
+            todos = todos.subList(0, limitValue);
+            nextCursor = todoCursorCodec.encode(sortBy, todos.get(limitValue - 1));
+        }
+        return getContentResponseToGetContentResponseDTOMapper.map(todos, nextCursor);
+    }
+
     public UpdateStatusResponseDTO updateStatus(Integer id,
                                                 String status) throws BadRequestException, ResourceNotFoundException {
         context.initLogsInfo();
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.UPDATE_STATUS, Verbs.PUT));
-        todoLogger.info(todoLoggerFormatter.updateStatus(id, "", status, LogLevels.INFO));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.UPDATE_STATUS, Verbs.PUT));
+        todoLogger.info(() -> todoLoggerFormatter.updateStatus(id, "", status, LogLevels.INFO));
         todoValidate.validateUpdateStatus(id, status);
-        String oldStatus = todoRepository.findById(id).getStatus();
-        todoLogger.debug(todoLoggerFormatter.updateStatus(id, oldStatus, status, LogLevels.DEBUG));
-        todoRepository.updateStatusById(id, status);
+        String oldStatus = todoRepository.updateStatusById(id, status);
+        if (oldStatus == null) {
+            throw new ResourceNotFoundException("Error: no such TODO with id " + id);
+        }
+        todoLogger.debug(() -> todoLoggerFormatter.updateStatus(id, oldStatus, status, LogLevels.DEBUG));
         UpdateStatusResponseDTO updateStatusResponseDTO =
                 updateStatusResponseToUpdateStatusResponseDTOMapper.map(oldStatus);
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.UPDATE_STATUS, Verbs.PUT));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.UPDATE_STATUS, Verbs.PUT));
+        recordRequest(Resources.UPDATE_STATUS, Verbs.PUT, id);
         return updateStatusResponseDTO;
     }
 
     public DeleteResponseDTO deleteById(Integer id) throws ResourceNotFoundException {
         context.initLogsInfo();
-        requestLogger.info(formatMessageRequestLogger(LogLevels.INFO, Resources.DELETE_TODO, Verbs.DELETE));
+        requestLogger.info(() -> formatMessageRequestLogger(LogLevels.INFO, Resources.DELETE_TODO, Verbs.DELETE));
         todoValidate.validateDeleteById(id);
         DeleteResponseDTO deleteResponseDTO =
                 deleteResponseToDeleteResponseDTOMapper.map(todoRepository.deleteById(id));
-        todoLogger.info(todoLoggerFormatter.deleteById(id, LogLevels.INFO));
-        todoLogger.debug(todoLoggerFormatter.deleteById(id, LogLevels.DEBUG));
-        requestLogger.debug(formatMessageRequestLogger(LogLevels.DEBUG, Resources.DELETE_TODO, Verbs.DELETE));
+        todoLogger.info(() -> todoLoggerFormatter.deleteById(id, LogLevels.INFO));
+        todoLogger.debug(() -> todoLoggerFormatter.deleteById(id, LogLevels.DEBUG));
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, Resources.DELETE_TODO, Verbs.DELETE));
+        recordRequest(Resources.DELETE_TODO, Verbs.DELETE, id);
         return deleteResponseDTO;
     }
 
-    private String formatMessageRequestLogger(String logLevel, String resource, String verb) {
-        int requestCounter = context.getRequestCounter();
-        long requestEndTimeInMillis = System.currentTimeMillis();
-        long requestStartTimeInMillis = context.getCurrentRequestStartTime();
+    private boolean isNotModified(Predicate<String> notModified, String resource) {
+        if (!notModified.test(todoRepository.getVersionTag())) {
+            return false;
+        }
+        requestLogger.debug(() -> formatMessageRequestLogger(LogLevels.DEBUG, resource, Verbs.GET));
+        recordRequest(resource, Verbs.GET, RecentRequestsBuffer.NO_TODO_ID, HttpStatus.NOT_MODIFIED);
+        return true;
+    }
+
+    private void recordRequest(String resource, String verb, int todoId) {
+        recordRequest(resource, verb, todoId, HttpStatus.OK);
+    }
+
+    private void recordRequest(String resource, String verb, int todoId, HttpStatus status) {
+        recentRequestsBuffer.record(context.getRequestCounter(), resource, verb, status.value(),
+                context.getCurrentRequestDurationNanos(), todoId);
+    }
 
+    private String formatMessageRequestLogger(String logLevel, String resource, String verb) {
         return switch(logLevel) {
-            case "INFO" -> "Incoming request | #" + requestCounter + " | resource: " + resource + " | HTTP Verb " + verb;
-            case "DEBUG" -> "request #" + requestCounter + " duration: " + (requestEndTimeInMillis - requestStartTimeInMillis) + "ms";
+            case "INFO" -> "Incoming request | #" + context.getRequestCounter() + " | resource: " + resource + " | HTTP Verb " + verb;
+            case "DEBUG" -> "request #" + context.getRequestCounter() + " duration: " + context.getCurrentRequestDurationMillis() + "ms";
             default -> "";
         };
     }
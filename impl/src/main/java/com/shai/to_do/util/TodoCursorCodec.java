@@ -0,0 +1,86 @@
+package com.shai.to_do.util;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Component
+public class TodoCursorCodec {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(String sortBy, Todo last) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(sortBy);
+            out.writeInt(last.getId());
+            switch (sortBy) {
+                case SortBy.TITLE -> writeString(out, last.getTitle());
+                case SortBy.DUE_DATE -> writeLong(out, last.getDueDate());
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ENCODER.encodeToString(bytes.toByteArray());
+    }
+
+    public Todo decode(String sortBy, String cursor) throws BadRequestException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(DECODER.decode(cursor)))) {
+            if (!in.readUTF().equals(sortBy)) {
+                throw new BadRequestException();
+            }
+            Todo after = new Todo();
+            after.setId(in.readInt());
+            switch (sortBy) {
+                case SortBy.TITLE -> after.setTitle(readString(in));
+                case SortBy.DUE_DATE -> after.setDueDate(readLong(in));
+                default -> {
+                }
+            }
+            if (in.available() > 0) {
+                throw new BadRequestException();
+            }
+            return after;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadRequestException();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new EOFException();
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
@@ -4,6 +4,7 @@ import com.shai.to_do.Context;
 import com.shai.to_do.constants.LogLevels;
 import com.shai.to_do.constants.Status;
 import com.shai.to_do.dto.TodoDTO;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.repository.TodoRepository;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,12 +25,17 @@ public class TodoLoggerFormatter {
     }
 
     public String add(TodoDTO todoDTO, String logLevel) {
-        String todoTitle = todoDTO.title();
-        long todoCount = todoRepository.countByStatus(Status.ALL);
+        return switch(logLevel) {
+            case LogLevels.INFO -> "Creating new TODO with Title [" + todoDTO.title() + "]";
+            case LogLevels.DEBUG -> "Currently there are " + (todoRepository.countByStatus(Status.ALL) - 1) + " TODOs in the system. New TODO will be assigned with id " + context.getIdCounter();
+            default -> "";
+        };
+    }
 
+    public String addBatch(int requested, int added, String logLevel) {
         return switch(logLevel) {
-            case LogLevels.INFO -> "Creating new TODO with Title [" + todoTitle + "]";
-            case LogLevels.DEBUG -> "Currently there are " + (todoCount - 1) + " TODOs in the system. New TODO will be assigned with id " + context.getIdCounter();
+            case LogLevels.INFO -> "Creating " + requested + " new TODOs in a batch";
+            case LogLevels.DEBUG -> added + " of " + requested + " TODOs were created. Currently there are " + todoRepository.countByStatus(Status.ALL) + " TODOs in the system";
             default -> "";
         };
     }
@@ -41,12 +47,9 @@ public class TodoLoggerFormatter {
     }
 
     public String getTodoContentByStatusSortedByField(String status, String sortBy, String logLevel) {
-        long todoCount = todoRepository.countByStatus(Status.ALL);
-        long todoCountByStatus = todoRepository.countByStatus(status);
-
         return switch(logLevel) {
             case LogLevels.INFO -> "Extracting todos content. Filter: " + status + " | Sorting by: " + sortBy;
-            case LogLevels.DEBUG -> "There are a total of " + todoCount + " todos in the system. The result holds " + todoCountByStatus + " todos";
+            case LogLevels.DEBUG -> "There are a total of " + todoRepository.countByStatus(Status.ALL) + " todos in the system. The result holds " + todoRepository.countByStatus(status) + " todos";
             default -> "";
         };
     }
@@ -59,12 +62,42 @@ public class TodoLoggerFormatter {
         };
     }
 
-    public String deleteById(Integer id, String logLevel) {
-        long todosCount = todoRepository.countByStatus(Status.ALL);
+    public String bulkUpdateStatus(TodoFilter filter, String newStatus, int updated, String logLevel) {
+        return switch(logLevel) {
+            case LogLevels.INFO -> "Update TODOs matching " + filter + " state to " + newStatus;
+            case LogLevels.DEBUG -> updated + " TODOs changed state to " + newStatus;
+            default -> "";
+        };
+    }
 
+    public String bulkDelete(TodoFilter filter, int deleted, String logLevel) {
+        return switch(logLevel) {
+            case LogLevels.INFO -> "Removing TODOs matching " + filter;
+            case LogLevels.DEBUG -> "After removing " + deleted + " TODOs there are " + todoRepository.countByStatus(Status.ALL) + " TODOs in the system";
+            default -> "";
+        };
+    }
+
+    public String search(String query, String operator, String status, int total, String logLevel) {
+        return switch(logLevel) {
+            case LogLevels.INFO -> "Searching todos for [" + query + "] with operator " + operator + ". Filter: " + status;
+            case LogLevels.DEBUG -> total + " todos matched the search for [" + query + "]";
+            default -> "";
+        };
+    }
+
+    public String getTitlesByPrefix(String prefix, int found, String logLevel) {
+        return switch(logLevel) {
+            case LogLevels.INFO -> "Looking up todo titles starting with [" + prefix + "]";
+            case LogLevels.DEBUG -> found + " titles start with [" + prefix + "]";
+            default -> "";
+        };
+    }
+
+    public String deleteById(Integer id, String logLevel) {
         return switch(logLevel) {
             case LogLevels.INFO -> "Removing todo id " + id;
-            case LogLevels.DEBUG -> "After removing todo id [" + id + "] there are " + todosCount + " TODOs in the system";
+            case LogLevels.DEBUG -> "After removing todo id [" + id + "] there are " + todoRepository.countByStatus(Status.ALL) + " TODOs in the system";
             default -> "";
         };
     }
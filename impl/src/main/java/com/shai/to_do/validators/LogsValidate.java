@@ -16,6 +16,12 @@ public class LogsValidate {
         checkLogLevel(newLogLevel);
     }
 
+    public void validateGetRecentRequests(int limit) throws BadRequestException {
+        if (limit < 1) {
+            throw new BadRequestException();
+        }
+    }
+
     private void checkLoggerName(String loggerName) throws ResourceNotFoundException {
         if (!loggerName.equals("request-logger") && !loggerName.equals("todo-logger")) {
             throw new ResourceNotFoundException("Logger name is not request-logger or todo-logger");
@@ -1,5 +1,6 @@
 package com.shai.to_do.validators;
 
+import com.shai.to_do.constants.SearchOperator;
 import com.shai.to_do.constants.SortBy;
 import com.shai.to_do.constants.Status;
 import com.shai.to_do.dto.TodoDTO;
@@ -7,13 +8,17 @@ import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.repository.TodoRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.Objects;
+import java.util.*;
 
 @Component
 public class TodoValidate {
+    public static final int MAX_PAGE_LIMIT = 10_000;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int MAX_SEARCH_TERMS = 32;
 
     private final TodoRepository todoRepository;
 
@@ -29,11 +34,57 @@ public class TodoValidate {
         validateDueDateHasNotExpired(dueDate);
     }
 
+    public List<String> validateAddBatch(List<TodoDTO> todoDTOs) throws BadRequestException {
+        if (todoDTOs == null || todoDTOs.size() > MAX_BATCH_SIZE || todoDTOs.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException();
+        }
+        Set<String> titles = new HashSet<>();
+        for (TodoDTO todoDTO : todoDTOs) {
+            titles.add(todoDTO.title());
+        }
+        Set<String> existingTitles = todoRepository.findExistingTitles(titles);
+        Set<String> acceptedTitles = new HashSet<>();
+        List<String> errors = new ArrayList<>(todoDTOs.size());
+        for (TodoDTO todoDTO : todoDTOs) {
+            if (todoDTO.dueDate() == null) {
+                errors.add("Error: TODO due date is missing");
+                continue;
+            }
+            try {
+                if (existingTitles.contains(todoDTO.title()) || acceptedTitles.contains(todoDTO.title())) {
+                    throw new TodoAlreadyExistsException(
+                            "Error: TODO with the title [" + todoDTO.title() + "] already exists in the system"
+                    );
+                }
+                validateDueDateHasNotExpired(todoDTO.dueDate());
+                acceptedTitles.add(todoDTO.title());
+                errors.add(null);
+            } catch (TodoAlreadyExistsException | DueDateExpiredException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        return errors;
+    }
+
     public void validateUpdateStatus(Integer id, String status) throws ResourceNotFoundException, BadRequestException {
         validateIdExists(id);
         validateStatusExists(status);
     }
 
+    public void validateBulkUpdateStatus(String status, TodoFilter filter) throws BadRequestException {
+        validateStatusExists(status);
+        validateBulkFilter(filter);
+    }
+
+    public void validateBulkFilter(TodoFilter filter) throws BadRequestException {
+        if (!Objects.equals(filter.status(), Status.ALL)) {
+            validateStatusExists(filter.status());
+        }
+        if (filter.isEmpty() || (filter.dueFrom() != null && filter.dueTo() != null && filter.dueFrom() > filter.dueTo())) {
+            throw new BadRequestException();
+        }
+    }
+
     public void validateDeleteById(Integer id) throws ResourceNotFoundException {
         validateIdExists(id);
     }
@@ -45,6 +96,30 @@ public class TodoValidate {
         validateSortByExists(sortBy);
     }
 
+    public void validatePageLimit(Integer limit) throws BadRequestException {
+        if (limit == null || limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new BadRequestException();
+        }
+    }
+
+    public void validateSearch(List<String> terms, String operator, String status, Integer limit) throws BadRequestException {
+        if (terms.isEmpty() || terms.size() > MAX_SEARCH_TERMS ||
+                (!Objects.equals(operator, SearchOperator.AND) && !Objects.equals(operator, SearchOperator.OR))) {
+            throw new BadRequestException();
+        }
+        if (!Objects.equals(status, Status.ALL)) {
+            validateStatusExists(status);
+        }
+        validatePageLimit(limit);
+    }
+
+    public void validateGetTitlesByPrefix(String prefix, Integer limit) throws BadRequestException {
+        if (prefix == null) {
+            throw new BadRequestException();
+        }
+        validatePageLimit(limit);
+    }
+
     public void validateCountByStatus(String status) throws BadRequestException {
         if (!Objects.equals(status, Status.ALL)) {
             validateStatusExists(status);
@@ -0,0 +1,83 @@
+package com.shai.to_do.unit;
+
+import com.shai.to_do.Context;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextTest {
+
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        context = new Context();
+    }
+
+    @Test
+    public void concurrentIdsAndRequestNumbersAreUniqueTest() throws InterruptedException {
+        final int threads = 8;
+        final int callsPerThread = 1_000;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        Set<Integer> requestNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < callsPerThread; i++) {
+                    context.initLogsInfo();
+                    requestNumbers.add(context.getRequestCounter());
+                    ids.add(context.getIdCounterAndIncrement());
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(threads * callsPerThread, ids.size());
+        assertEquals(threads * callsPerThread, requestNumbers.size());
+        assertEquals(threads * callsPerThread, context.getIdCounter());
+    }
+
+    @Test
+    public void reserveIdsReturnsFirstIdOfContiguousRangeTest() {
+        context.getIdCounterAndIncrement();
+
+        assertEquals(2, context.reserveIds(10));
+        assertEquals(11, context.getIdCounter());
+        assertEquals(12, context.getIdCounterAndIncrement());
+    }
+
+    @Test
+    public void requestTimingIsPerThreadTest() throws InterruptedException {
+        context.initLogsInfo();
+        long startNanos = context.getCurrentRequestStartNanos();
+        int requestNumber = context.getRequestCounter();
+
+        Thread other = new Thread(context::initLogsInfo);
+        other.start();
+        other.join();
+
+        assertEquals(startNanos, context.getCurrentRequestStartNanos());
+        assertEquals(requestNumber, context.getRequestCounter());
+        assertTrue(context.getCurrentRequestDurationNanos() >= 0);
+    }
+
+    @Test
+    public void clearLogsInfoRemovesRequestFromThreadTest() {
+        context.initLogsInfo();
+        assertNotNull(ThreadContext.get("requestCounter"));
+
+        context.clearLogsInfo();
+
+        assertNull(ThreadContext.get("requestCounter"));
+        assertEquals(0, context.getRequestCounter());
+    }
+}
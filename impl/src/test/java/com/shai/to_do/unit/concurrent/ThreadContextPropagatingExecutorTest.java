@@ -0,0 +1,54 @@
+package com.shai.to_do.unit.concurrent;
+
+import com.shai.to_do.concurrent.ThreadContextPropagatingExecutor;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThreadContextPropagatingExecutorTest {
+
+    private final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    public void requestCounterIsVisibleInTaskTest() throws Exception {
+        ThreadContext.put("requestCounter", "42");
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        run(new ThreadContextPropagatingExecutor(pool), () -> seen.set(ThreadContext.get("requestCounter")));
+
+        assertEquals("42", seen.get());
+    }
+
+    @Test
+    public void contextDoesNotLeakIntoLaterTasksTest() throws Exception {
+        ThreadContextPropagatingExecutor executor = new ThreadContextPropagatingExecutor(pool);
+        ThreadContext.put("requestCounter", "7");
+        run(executor, () -> {});
+        ThreadContext.clearMap();
+        AtomicReference<String> seen = new AtomicReference<>("unset");
+
+        run(pool, () -> seen.set(ThreadContext.get("requestCounter")));
+
+        assertNull(seen.get());
+    }
+
+    private static void run(Executor executor, Runnable task) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        executor.execute(() -> {
+            task.run();
+            done.complete(null);
+        });
+        done.get(5, TimeUnit.SECONDS);
+    }
+}
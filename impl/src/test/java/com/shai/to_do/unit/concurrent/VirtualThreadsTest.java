@@ -0,0 +1,39 @@
+package com.shai.to_do.unit.concurrent;
+
+import com.shai.to_do.concurrent.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void tasksRunOnNamedVirtualThreadsTest() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        try {
+            Future<String> name = executor.submit(() -> Thread.currentThread().getName());
+            Future<Boolean> daemon = executor.submit(() -> Thread.currentThread().isDaemon());
+
+            assertEquals("test-0", name.get(5, TimeUnit.SECONDS));
+            assertTrue(daemon.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void olderRuntimesFailWithClearMessageTest() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> VirtualThreads.newThreadPerTaskExecutor("test-"));
+        assertTrue(exception.getMessage().contains("Java 21"));
+    }
+}
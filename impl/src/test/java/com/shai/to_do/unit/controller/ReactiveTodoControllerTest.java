@@ -0,0 +1,216 @@
+package com.shai.to_do.unit.controller;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.controller.ReactiveTodoController;
+import com.shai.to_do.dto.TodoDTO;
+import com.shai.to_do.dto.response.AddResponseDTO;
+import com.shai.to_do.dto.response.CountByStatusResponseDTO;
+import com.shai.to_do.dto.response.DeleteResponseDTO;
+import com.shai.to_do.dto.response.GetContentResponseDTO;
+import com.shai.to_do.dto.response.ResponseDTOFactory;
+import com.shai.to_do.dto.response.TitlesResponseDTO;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.exception.DueDateExpiredException;
+import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.exception.handler.ReactiveControllerAdvice;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.metrics.RequestMetrics;
+import com.shai.to_do.repository.ReactiveTodoRepository;
+import com.shai.to_do.service.ReactiveTodoService;
+import com.shai.to_do.service.TodoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ReactiveTodoControllerTest {
+    private static final String VERSION_TAG = "1-42";
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private ReactiveTodoRepository reactiveTodoRepository;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Context context = new Context();
+        ReactiveTodoService reactiveTodoService = new ReactiveTodoService(todoService, reactiveTodoRepository, context);
+        ReactiveControllerAdvice reactiveControllerAdvice = new ReactiveControllerAdvice(new ResponseDTOFactory(),
+                context, new RecentRequestsBuffer(16), new RequestMetrics());
+        webTestClient = WebTestClient.bindToController(new ReactiveTodoController(reactiveTodoService))
+                .controllerAdvice(reactiveControllerAdvice)
+                .build();
+    }
+
+    @Test
+    public void add_ShouldReturnNewIdTest() throws Exception {
+        AddResponseDTO addResponseDTO = new AddResponseDTO();
+        addResponseDTO.setResult(7);
+        when(todoService.add(any(TodoDTO.class))).thenReturn(addResponseDTO);
+
+        webTestClient.post().uri("/todo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TodoDTO("title", "content", Instant.now().getEpochSecond() + 60))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result").isEqualTo(7);
+    }
+
+    @Test
+    public void countByStatus_ShouldRunOffTheCallingThreadTest() throws Exception {
+        AtomicReference<String> serviceThread = new AtomicReference<>();
+        CountByStatusResponseDTO countByStatusResponseDTO = new CountByStatusResponseDTO();
+        countByStatusResponseDTO.setResult(3);
+        when(todoService.countByStatus(eq(Status.PENDING), any())).thenAnswer(invocation -> {
+            serviceThread.set(Thread.currentThread().getName());
+            return conditional(countByStatusResponseDTO).answer(invocation);
+        });
+
+        webTestClient.get().uri("/todo/size?status=PENDING")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"" + VERSION_TAG + "\"")
+                .expectBody().jsonPath("$.result").isEqualTo(3);
+
+        assertTrue(serviceThread.get().startsWith("boundedElastic"), serviceThread.get());
+    }
+
+    @Test
+    public void countByStatus_ShouldReturnNotModifiedForCurrentVersionTest() throws Exception {
+        when(todoService.countByStatus(eq(Status.PENDING), any())).thenAnswer(conditional(new CountByStatusResponseDTO()));
+
+        webTestClient.get().uri("/todo/size?status=PENDING")
+                .header("If-None-Match", "\"" + VERSION_TAG + "\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void getTodoContent_ShouldTagEachRepresentationSeparatelyTest() throws Exception {
+        GetContentResponseDTO getContentResponseDTO = new GetContentResponseDTO();
+        getContentResponseDTO.setResult(List.of());
+        when(todoService.getTodoContentByStatusSortedByField(eq(Status.ALL), any(), any(), any(), any()))
+                .thenAnswer(conditional(getContentResponseDTO));
+        when(todoService.openTodoContentStream(eq(Status.ALL), any(), any())).thenAnswer(conditional(SortBy.ID));
+
+        webTestClient.get().uri("/todo/content?status=ALL")
+                .accept(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", "\"" + VERSION_TAG + "-x-ndjson\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"" + VERSION_TAG + "-json\"")
+                .expectHeader().valueEquals("Vary", "Accept");
+        webTestClient.get().uri("/todo/content?status=ALL")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .header("If-None-Match", "\"" + VERSION_TAG + "-x-ndjson\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("Vary", "Accept");
+
+        verify(reactiveTodoRepository, never()).findTodoContentByStatusSortedByField(any(), any());
+    }
+
+    @Test
+    public void countByStatus_WithInvalidStatusAndCurrentVersion_ShouldReturn400Test() throws Exception {
+        when(todoService.countByStatus(eq("BOGUS"), any())).thenThrow(new BadRequestException());
+
+        webTestClient.get().uri("/todo/size?status=BOGUS")
+                .header("If-None-Match", "\"" + VERSION_TAG + "\"")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void getTitlesByPrefix_ShouldReturnTitlesTest() throws Exception {
+        TitlesResponseDTO titlesResponseDTO = new TitlesResponseDTO();
+        titlesResponseDTO.setResult(List.of("Groceries", "Gym"));
+        when(todoService.getTitlesByPrefix(eq("g"), eq(10), any())).thenReturn(titlesResponseDTO);
+
+        webTestClient.get().uri("/todo/titles?prefix=g")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result[1]").isEqualTo("Gym");
+    }
+
+    @Test
+    public void deleteTodo_ShouldReturnRemainingCountTest() throws Exception {
+        DeleteResponseDTO deleteResponseDTO = new DeleteResponseDTO();
+        deleteResponseDTO.setResult(4);
+        when(todoService.deleteById(1)).thenReturn(deleteResponseDTO);
+
+        webTestClient.delete().uri("/todo?id=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result").isEqualTo(4);
+    }
+
+    @Test
+    public void badRequest_ShouldReturn400Test() throws Exception {
+        when(todoService.search(anyString(), anyString(), anyString(), anyInt(), any())).thenThrow(new BadRequestException());
+
+        webTestClient.get().uri("/todo/search?q=milk&status=BOGUS")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void resourceNotFound_ShouldReturn404WithMessageTest() throws Exception {
+        when(todoService.updateStatus(9, Status.DONE)).thenThrow(new ResourceNotFoundException("No such TODO with id 9"));
+
+        webTestClient.put().uri("/todo?id=9&status=DONE")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.errorMessage").isEqualTo("No such TODO with id 9");
+    }
+
+    @Test
+    public void todoAlreadyExists_ShouldReturn409WithMessageTest() throws Exception {
+        when(todoService.add(any(TodoDTO.class))).thenThrow(new TodoAlreadyExistsException("TODO with the title [title] already exists in the system"));
+
+        webTestClient.post().uri("/todo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TodoDTO("title", "content", Instant.now().getEpochSecond() + 60))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errorMessage").isEqualTo("TODO with the title [title] already exists in the system");
+    }
+
+    @Test
+    public void dueDateExpired_ShouldReturn409WithMessageTest() throws Exception {
+        when(todoService.add(any(TodoDTO.class))).thenThrow(new DueDateExpiredException("Can’t create new TODO that its due date is in the past"));
+
+        webTestClient.post().uri("/todo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TodoDTO("title", "content", 1L))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errorMessage").isEqualTo("Can’t create new TODO that its due date is in the past");
+    }
+
+    private static <T> Answer<T> conditional(T response) {
+        return invocation -> {
+            Predicate<String> notModified = invocation.getArgument(invocation.getArguments().length - 1);
+            return notModified.test(VERSION_TAG) ? null : response;
+        };
+    }
+}
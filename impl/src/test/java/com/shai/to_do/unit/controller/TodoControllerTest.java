@@ -5,6 +5,9 @@ import com.shai.to_do.constants.Status;
 import com.shai.to_do.controller.TodoController;
 import com.shai.to_do.dto.TodoDTO;
 import com.shai.to_do.dto.response.AddResponseDTO;
+import com.shai.to_do.dto.response.BatchAddItemDTO;
+import com.shai.to_do.dto.response.BatchAddResponseDTO;
+import com.shai.to_do.dto.response.BulkResponseDTO;
 import com.shai.to_do.dto.response.CountByStatusResponseDTO;
 import com.shai.to_do.dto.response.GetContentResponseDTO;
 import com.shai.to_do.dto.response.ResponseDTOFactory;
@@ -12,19 +15,24 @@ import com.shai.to_do.entity.Todo;
 import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.handler.ControllerAdvice;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.service.TodoService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -33,10 +41,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.mockito.ArgumentMatchers.any;
 
@@ -84,14 +95,14 @@ public class TodoControllerTest {
         final String status = Status.PENDING;
         CountByStatusResponseDTO countByStatusResponseDTO = new CountByStatusResponseDTO();
         countByStatusResponseDTO.setResult(1L);
-        when(todoService.countByStatus(status)).thenReturn(countByStatusResponseDTO);
+        when(todoService.countByStatus(eq(status), any())).thenReturn(countByStatusResponseDTO);
 
         mockMvc.perform(get("/todo/size")
                         .param("status", status))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result", is(1)));
 
-        verify(todoService, times(1)).countByStatus(status);
+        verify(todoService, times(1)).countByStatus(eq(status), any());
     }
 
     @Test
@@ -114,7 +125,7 @@ public class TodoControllerTest {
     public void testCountByStatus_ShouldCount() throws Exception {
         CountByStatusResponseDTO countByStatusResponseDTO = new CountByStatusResponseDTO();
         countByStatusResponseDTO.setResult(3L);
-        when(todoService.countByStatus(Status.DONE)).thenReturn(countByStatusResponseDTO);
+        when(todoService.countByStatus(eq(Status.DONE), any())).thenReturn(countByStatusResponseDTO);
 
         mockMvc.perform(get("/todo/size?status=DONE"))
                 .andExpect(status().isOk())
@@ -128,7 +139,7 @@ public class TodoControllerTest {
     public void testCountByStatus_WithWrongName_ShouldThrowBadRequestException() throws Exception {
         doThrow(new BadRequestException())
                 .when(todoService)
-                .countByStatus("DONe");
+                .countByStatus(eq("DONe"), any());
 
         mockMvc.perform(get("/todo/size?status=DONe"))
                 .andExpect(status().isOk());
@@ -147,7 +158,8 @@ public class TodoControllerTest {
         GetContentResponseDTO getContentResponseDTO = new GetContentResponseDTO();
         getContentResponseDTO.setResult(todos);
 
-        when(todoService.getTodoContentByStatusSortedByField(Status.PENDING, Optional.empty())).thenReturn(getContentResponseDTO);
+        when(todoService.getTodoContentByStatusSortedByField(eq(Status.PENDING), eq(Optional.empty()), eq(Optional.empty()), eq(Optional.empty()), any()))
+                .thenReturn(getContentResponseDTO);
 
         mockMvc.perform(get("/todo/content?status=PENDING"))
                 .andExpect(status().isOk())
@@ -159,4 +171,142 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.result[1].status", is(Status.PENDING)));
     }
 
+    @Test
+    public void testGetTodoContentByStatusSortedByField_WithLimit_ShouldReturnNextCursor() throws Exception {
+        Todo todo1 = new Todo(1, "title1", "description1", Status.PENDING, System.currentTimeMillis()+1000);
+
+        GetContentResponseDTO getContentResponseDTO = new GetContentResponseDTO();
+        getContentResponseDTO.setResult(List.of(todo1));
+        getContentResponseDTO.setNextCursor("cursor");
+
+        when(todoService.getTodoContentByStatusSortedByField(eq(Status.PENDING), eq(Optional.empty()), eq(Optional.of(1)), eq(Optional.of("previous")), any()))
+                .thenReturn(getContentResponseDTO);
+
+        mockMvc.perform(get("/todo/content?status=PENDING&limit=1&cursor=previous"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", is("cursor")));
+    }
+
+    @Test
+    public void testGetTodoContentByStatusSortedByField_AcceptNdjson_ShouldStreamTodos() throws Exception {
+        StreamingResponseBody body = outputStream ->
+                outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+
+        when(todoService.streamTodoContentByStatusSortedByField(eq(Status.ALL), eq(Optional.empty()), any())).thenReturn(body);
+
+        MvcResult mvcResult = mockMvc.perform(get("/todo/content?status=ALL").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        verify(todoService, never()).getTodoContentByStatusSortedByField(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testAddBatch_ShouldReturnResultPerItem() throws Exception {
+        BatchAddResponseDTO batchAddResponseDTO = new BatchAddResponseDTO();
+        batchAddResponseDTO.setAdded(1);
+        batchAddResponseDTO.setResult(List.of(new BatchAddItemDTO(7, null), new BatchAddItemDTO(null, "Error: duplicate")));
+        when(todoService.addBatch(anyList())).thenReturn(batchAddResponseDTO);
+
+        mockMvc.perform(post("/todo/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"a\",\"content\":\"c\",\"dueDate\":1},{\"title\":\"a\",\"content\":\"c\",\"dueDate\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.added", is(1)))
+                .andExpect(jsonPath("$.result[0].result", is(7)))
+                .andExpect(jsonPath("$.result[0].errorMessage").doesNotExist())
+                .andExpect(jsonPath("$.result[1].errorMessage", is("Error: duplicate")));
+    }
+
+    @Test
+    public void testBulkEndpoints_ShouldPassFilterAndReturnAffectedCount() throws Exception {
+        BulkResponseDTO bulkResponseDTO = new BulkResponseDTO();
+        bulkResponseDTO.setResult(4);
+        when(todoService.updateStatusWhere(new TodoFilter(Status.PENDING, null, 1000L, null), Status.LATE)).thenReturn(bulkResponseDTO);
+        when(todoService.deleteWhere(new TodoFilter(Status.ALL, null, null, Set.of(1, 2)))).thenReturn(bulkResponseDTO);
+
+        mockMvc.perform(put("/todo/bulk?newStatus=LATE&status=PENDING&dueTo=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result", is(4)));
+        mockMvc.perform(delete("/todo/bulk?ids=1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result", is(4)));
+    }
+
+    @Test
+    public void testCountByStatus_ShouldReturnETag_AndNotModifiedWhenVersionUnchanged() throws Exception {
+        CountByStatusResponseDTO countByStatusResponseDTO = new CountByStatusResponseDTO();
+        countByStatusResponseDTO.setResult(3L);
+        when(todoService.countByStatus(eq(Status.DONE), any())).thenAnswer(conditional("1-5", countByStatusResponseDTO));
+
+        mockMvc.perform(get("/todo/size?status=DONE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-5\""))
+                .andExpect(jsonPath("$.result", is(3)));
+        mockMvc.perform(get("/todo/size?status=DONE").header("If-None-Match", "\"1-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(todoService, times(2)).countByStatus(eq(Status.DONE), any());
+    }
+
+    @Test
+    public void testGetTodoContentByStatusSortedByField_WithStaleETag_ShouldReturnData() throws Exception {
+        GetContentResponseDTO getContentResponseDTO = new GetContentResponseDTO();
+        getContentResponseDTO.setResult(List.of());
+        when(todoService.getTodoContentByStatusSortedByField(eq(Status.ALL), eq(Optional.empty()), eq(Optional.empty()), eq(Optional.empty()), any()))
+                .thenAnswer(conditional("1-6", getContentResponseDTO));
+
+        mockMvc.perform(get("/todo/content?status=ALL").header("If-None-Match", "\"1-5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-6-json\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$.result", hasSize(0)));
+    }
+
+    @Test
+    public void testStreamTodoContentByStatusSortedByField_ShouldUseItsOwnETag() throws Exception {
+        StreamingResponseBody body = outputStream ->
+                outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        when(todoService.streamTodoContentByStatusSortedByField(eq(Status.ALL), eq(Optional.empty()), any()))
+                .thenAnswer(conditional("1-6", body));
+
+        MvcResult mvcResult = mockMvc.perform(get("/todo/content?status=ALL").accept(MediaType.APPLICATION_NDJSON)
+                        .header("If-None-Match", "\"1-6-json\""))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("ETag", "\"1-6-x-ndjson\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+        mockMvc.perform(get("/todo/content?status=ALL").accept(MediaType.APPLICATION_NDJSON)
+                        .header("If-None-Match", "\"1-6-x-ndjson\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testCountByStatus_WithInvalidStatusAndCurrentETag_ShouldValidateFirst() throws Exception {
+        doThrow(new BadRequestException())
+                .when(todoService)
+                .countByStatus(eq("BOGUS"), any());
+
+        mockMvc.perform(get("/todo/size?status=BOGUS").header("If-None-Match", "\"1-5\""));
+
+        verify(controllerAdvice, times(1))
+                .handleBadRequestException();
+    }
+
+    private static <T> Answer<T> conditional(String versionTag, T response) {
+        return invocation -> {
+            Predicate<String> notModified = invocation.getArgument(invocation.getArguments().length - 1);
+            return notModified.test(versionTag) ? null : response;
+        };
+    }
 }
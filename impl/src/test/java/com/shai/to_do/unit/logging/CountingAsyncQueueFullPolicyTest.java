@@ -0,0 +1,44 @@
+package com.shai.to_do.unit.logging;
+
+import com.shai.to_do.logging.CountingAsyncQueueFullPolicy;
+import com.shai.to_do.logging.QueueFullMode;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingAsyncQueueFullPolicyTest {
+
+    private static final long BACKGROUND_THREAD_ID = -1;
+
+    @Test
+    public void blockEnqueuesEveryLevelTest() {
+        CountingAsyncQueueFullPolicy policy = new CountingAsyncQueueFullPolicy(QueueFullMode.BLOCK);
+        long dropped = CountingAsyncQueueFullPolicy.getDroppedEvents();
+
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(BACKGROUND_THREAD_ID, Level.DEBUG));
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(BACKGROUND_THREAD_ID, Level.ERROR));
+        assertEquals(dropped, CountingAsyncQueueFullPolicy.getDroppedEvents());
+    }
+
+    @Test
+    public void dropDebugDiscardsOnlyDebugAndTraceTest() {
+        CountingAsyncQueueFullPolicy policy = new CountingAsyncQueueFullPolicy(QueueFullMode.DROP_DEBUG);
+        long dropped = CountingAsyncQueueFullPolicy.getDroppedEvents();
+
+        assertEquals(EventRoute.DISCARD, policy.getRoute(BACKGROUND_THREAD_ID, Level.DEBUG));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(BACKGROUND_THREAD_ID, Level.TRACE));
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(BACKGROUND_THREAD_ID, Level.INFO));
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(BACKGROUND_THREAD_ID, Level.ERROR));
+        assertEquals(dropped + 2, CountingAsyncQueueFullPolicy.getDroppedEvents());
+    }
+
+    @Test
+    public void discardDropsEveryLevelButNeverTheBackgroundThreadTest() {
+        CountingAsyncQueueFullPolicy policy = new CountingAsyncQueueFullPolicy(QueueFullMode.DISCARD);
+
+        assertEquals(EventRoute.DISCARD, policy.getRoute(BACKGROUND_THREAD_ID, Level.ERROR));
+        assertEquals(EventRoute.SYNCHRONOUS, policy.getRoute(Thread.currentThread().getId(), Level.ERROR));
+    }
+}
@@ -0,0 +1,119 @@
+package com.shai.to_do.unit.logging;
+
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecentRequestsBufferTest {
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwoTest() {
+        assertEquals(8, new RecentRequestsBuffer(5).capacity());
+        assertEquals(8, new RecentRequestsBuffer(8).capacity());
+    }
+
+    @Test
+    public void recentReturnsNewestFirstTest() {
+        RecentRequestsBuffer buffer = new RecentRequestsBuffer(8);
+        buffer.record(1, Resources.ADD, Verbs.POST, 200, 1_000, 7);
+        buffer.record(2, Resources.DELETE_TODO, Verbs.DELETE, 404, 2_000, RecentRequestsBuffer.NO_TODO_ID);
+
+        List<RecentRequestsBuffer.RequestRecord> records = buffer.recent(10, record -> true);
+
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).requestNumber());
+        assertEquals(404, records.get(0).status());
+        assertNull(records.get(0).todoId());
+        assertEquals(1, records.get(1).requestNumber());
+        assertEquals(7, records.get(1).todoId());
+        assertEquals(Resources.ADD, records.get(1).resource());
+    }
+
+    @Test
+    public void oldRecordsAreOverwrittenTest() {
+        RecentRequestsBuffer buffer = new RecentRequestsBuffer(4);
+        for (int i = 1; i <= 10; i++) {
+            buffer.record(i, Resources.ADD, Verbs.POST, 200, i, i);
+        }
+
+        List<RecentRequestsBuffer.RequestRecord> records = buffer.recent(100, record -> true);
+
+        assertEquals(List.of(10, 9, 8, 7), records.stream().map(RecentRequestsBuffer.RequestRecord::requestNumber).toList());
+    }
+
+    @Test
+    public void recentAppliesFilterAndLimitTest() {
+        RecentRequestsBuffer buffer = new RecentRequestsBuffer(16);
+        for (int i = 1; i <= 10; i++) {
+            buffer.record(i, Resources.ADD, i % 2 == 0 ? Verbs.POST : Verbs.GET, 200, i, i);
+        }
+
+        List<RecentRequestsBuffer.RequestRecord> records = buffer.recent(3, record -> record.verb().equals(Verbs.POST));
+
+        assertEquals(List.of(10, 8, 6), records.stream().map(RecentRequestsBuffer.RequestRecord::requestNumber).toList());
+    }
+
+    @Test
+    public void slowWriterIsNotReadAsANewerRecordTest() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        RecentRequestsBuffer buffer = new RecentRequestsBuffer(4, () -> {
+            if (first.compareAndSet(true, false)) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return 0;
+        });
+        Thread slowWriter = new Thread(() -> buffer.record(100, Resources.ADD, Verbs.POST, 200, 100, 100));
+        slowWriter.start();
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            buffer.record(i, Resources.ADD, Verbs.POST, 200, i, i);
+        }
+        release.countDown();
+        slowWriter.join(10_000);
+
+        List<RecentRequestsBuffer.RequestRecord> records = buffer.recent(100, record -> true);
+
+        assertEquals(List.of(3, 2, 1), records.stream().map(RecentRequestsBuffer.RequestRecord::requestNumber).toList());
+    }
+
+    @Test
+    public void concurrentWritersNeverProduceTornRecordsTest() throws InterruptedException {
+        RecentRequestsBuffer buffer = new RecentRequestsBuffer(64);
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int w = 0; w < writers; w++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= 20_000; i++) {
+                    buffer.record(i, Resources.ADD, Verbs.POST, 200, i, i);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            for (RecentRequestsBuffer.RequestRecord record : buffer.recent(64, record -> true)) {
+                assertEquals(record.requestNumber(), record.durationNanos());
+                assertEquals(record.requestNumber(), record.todoId());
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,92 @@
+package com.shai.to_do.unit.metrics;
+
+import com.shai.to_do.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogramReportsZeroTest() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.quantileNanos(0.99));
+    }
+
+    @Test
+    public void smallValuesAreExactTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < 16; value++) {
+            histogram.record(value);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(16, snapshot.count());
+        assertEquals(7, snapshot.quantileNanos(0.5));
+        assertEquals(15, snapshot.quantileNanos(1.0));
+        assertEquals(120, snapshot.sumNanos());
+    }
+
+    @Test
+    public void quantilesStayWithinBucketPrecisionTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertWithinPrecision(50_000_000, snapshot.quantileNanos(0.5));
+        assertWithinPrecision(90_000_000, snapshot.quantileNanos(0.9));
+        assertWithinPrecision(99_000_000, snapshot.quantileNanos(0.99));
+        assertWithinPrecision(99_900_000, snapshot.quantileNanos(0.999));
+        assertEquals(100_000_000, snapshot.maxNanos());
+        assertEquals(100_000_000, snapshot.quantileNanos(1.0));
+    }
+
+    @Test
+    public void hugeValuesDoNotOverflowTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2, snapshot.count());
+        assertEquals(0, snapshot.quantileNanos(0.5));
+        assertEquals(Long.MAX_VALUE, snapshot.quantileNanos(1.0));
+    }
+
+    @Test
+    public void concurrentRecordsAreNotLostTest() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= 50_000; i++) {
+                    histogram.record(i);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(200_000, histogram.snapshot().count());
+        assertEquals(50_000, histogram.snapshot().maxNanos());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
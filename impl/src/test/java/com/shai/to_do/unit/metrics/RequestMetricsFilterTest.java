@@ -0,0 +1,79 @@
+package com.shai.to_do.unit.metrics;
+
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.metrics.LatencyHistogram;
+import com.shai.to_do.metrics.RequestMetrics;
+import com.shai.to_do.metrics.RequestMetricsFilter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestMetricsFilterTest {
+
+    private RequestMetrics requestMetrics;
+    private RequestMetricsFilter requestMetricsFilter;
+
+    @BeforeEach
+    void setUp() {
+        requestMetrics = new RequestMetrics();
+        requestMetricsFilter = new RequestMetricsFilter(requestMetrics);
+    }
+
+    @Test
+    public void timedOutAsyncRequestIsRecordedOnceTest() throws Exception {
+        MockAsyncContext asyncContext = startAsyncRequest();
+
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        assertEquals(1, recordedContentRequests());
+        asyncContext.complete();
+
+        assertEquals(1, recordedContentRequests());
+    }
+
+    @Test
+    public void failedAsyncRequestIsRecordedOnceTest() throws Exception {
+        MockAsyncContext asyncContext = startAsyncRequest();
+
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+        }
+        assertEquals(1, recordedContentRequests());
+        asyncContext.complete();
+
+        assertEquals(1, recordedContentRequests());
+    }
+
+    @Test
+    public void completedAsyncRequestIsRecordedTest() throws Exception {
+        MockAsyncContext asyncContext = startAsyncRequest();
+
+        assertEquals(0, recordedContentRequests());
+        asyncContext.complete();
+
+        assertEquals(1, recordedContentRequests());
+    }
+
+    private MockAsyncContext startAsyncRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(Verbs.GET, Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD);
+        request.setAsyncSupported(true);
+        requestMetricsFilter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> servletRequest.startAsync());
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+
+    private long recordedContentRequests() {
+        Map<String, LatencyHistogram.Snapshot> byVerb = requestMetrics.latencySnapshots().get(Resources.GET_TODO_CONTENT_BY_STATUS_SORTED_BY_FIELD);
+        return byVerb == null ? 0 : byVerb.get(Verbs.GET).count();
+    }
+}
@@ -0,0 +1,51 @@
+package com.shai.to_do.unit.metrics;
+
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.metrics.LatencyHistogram;
+import com.shai.to_do.metrics.RequestMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestMetricsTest {
+
+    @Test
+    public void latenciesAreKeptPerResourceAndVerbTest() {
+        RequestMetrics requestMetrics = new RequestMetrics();
+        requestMetrics.recordLatency(Resources.ADD, Verbs.POST, 1_000);
+        requestMetrics.recordLatency(Resources.ADD, Verbs.POST, 3_000);
+        requestMetrics.recordLatency(Resources.DELETE_TODO, Verbs.DELETE, 2_000);
+
+        Map<String, Map<String, LatencyHistogram.Snapshot>> snapshots = requestMetrics.latencySnapshots();
+
+        assertEquals(2, snapshots.get(Resources.ADD).get(Verbs.POST).count());
+        assertEquals(1, snapshots.get(Resources.DELETE_TODO).get(Verbs.DELETE).count());
+        assertFalse(snapshots.get(Resources.ADD).containsKey(Verbs.GET));
+        assertFalse(snapshots.containsKey(Resources.COUNT_BY_STATUS));
+    }
+
+    @Test
+    public void unknownResourcesAndVerbsAreIgnoredTest() {
+        RequestMetrics requestMetrics = new RequestMetrics();
+        requestMetrics.recordLatency("/favicon.ico", Verbs.GET, 1_000);
+        requestMetrics.recordLatency(Resources.ADD, "PATCH", 1_000);
+
+        assertTrue(requestMetrics.latencySnapshots().isEmpty());
+    }
+
+    @Test
+    public void errorsAreCountedByExceptionTypeTest() {
+        RequestMetrics requestMetrics = new RequestMetrics();
+        requestMetrics.recordError(BadRequestException.class);
+        requestMetrics.recordError(BadRequestException.class);
+
+        Map<String, Long> errors = requestMetrics.errorCounts();
+
+        assertEquals(2, errors.get("BadRequestException"));
+        assertEquals(0, errors.get("TodoAlreadyExistsException"));
+    }
+}
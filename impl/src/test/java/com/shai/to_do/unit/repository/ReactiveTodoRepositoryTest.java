@@ -0,0 +1,56 @@
+package com.shai.to_do.unit.repository;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.ReactiveTodoRepository;
+import com.shai.to_do.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReactiveTodoRepositoryTest {
+
+    private TodoRepository todoRepository;
+    private ReactiveTodoRepository reactiveTodoRepository;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = new TodoRepository();
+        reactiveTodoRepository = new ReactiveTodoRepository(todoRepository);
+    }
+
+    @Test
+    public void findTodoContentByStatusSortedByField_ShouldEmitAllPagesInOrder() {
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 1; i <= 2_500; i++) {
+            Todo todo = new Todo();
+            todo.setId(i);
+            todo.setTitle("title-" + i);
+            todo.setContent("content");
+            todo.setDueDate(10_000L - i);
+            todo.setStatus(i % 2 == 0 ? Status.PENDING : Status.DONE);
+            todos.add(todo);
+        }
+        todoRepository.addAll(todos);
+
+        List<Todo> all = reactiveTodoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.ID)
+                .collectList().block();
+        List<Todo> pending = reactiveTodoRepository.findTodoContentByStatusSortedByField(Status.PENDING, SortBy.DUE_DATE)
+                .collectList().block();
+
+        assertEquals(todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.ID), all);
+        assertEquals(todoRepository.findTodoContentByStatusSortedByField(Status.PENDING, SortBy.DUE_DATE), pending);
+        assertEquals(1_250, pending.size());
+    }
+
+    @Test
+    public void findTodoContentByStatusSortedByField_ShouldCompleteEmpty_WhenNoTodos() {
+        assertEquals(0, reactiveTodoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.ID)
+                .count().block());
+    }
+}
@@ -1,14 +1,32 @@
 package com.shai.to_do.unit.repository;
 
+import com.shai.to_do.constants.SortBy;
 import com.shai.to_do.constants.Status;
 import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.engine.ColumnarTodoStorageEngine;
+import com.shai.to_do.repository.engine.HeapTodoStorageEngine;
+import com.shai.to_do.repository.index.IndexBuild;
+import com.shai.to_do.repository.index.SortedTodoIndex;
+import com.shai.to_do.repository.journal.TodoJournal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 public class TodoRepositoryTest {
 
@@ -104,4 +122,315 @@ public class TodoRepositoryTest {
         assertFalse(todoRepository.existsByTitle("Test todo"));
     }
 
+    @Test
+    public void deleteByIdTest() {
+        Todo first = new Todo(1, "First", "content", Status.PENDING, System.currentTimeMillis() + 1);
+        Todo second = new Todo(2, "Second", "content", Status.PENDING, System.currentTimeMillis() + 1);
+        todoRepository.add(first);
+        todoRepository.add(second);
+
+        assertEquals(1, todoRepository.deleteById(1));
+
+        assertFalse(todoRepository.existsById(1));
+        assertTrue(todoRepository.existsById(2));
+    }
+
+    @Test
+    public void countByStatusFollowsAddUpdateAndDeleteTest() {
+        todoRepository.add(new Todo(1, "First", "content", Status.PENDING, System.currentTimeMillis() + 1));
+        todoRepository.add(new Todo(2, "Second", "content", Status.PENDING, System.currentTimeMillis() + 1));
+        todoRepository.add(new Todo(3, "Third", "content", Status.PENDING, System.currentTimeMillis() + 1));
+
+        todoRepository.updateStatusById(2, Status.DONE);
+        todoRepository.deleteById(3);
+
+        assertEquals(2, todoRepository.countByStatus(Status.ALL));
+        assertEquals(1, todoRepository.countByStatus(Status.PENDING));
+        assertEquals(1, todoRepository.countByStatus(Status.DONE));
+        assertEquals(0, todoRepository.countByStatus(Status.LATE));
+        assertEquals(2, todoRepository.findTodoContentByStatus(Status.DONE).get(0).getId());
+    }
+
+    @Test
+    public void findTodoContentByStatusSortedByFieldTest() {
+        todoRepository.add(new Todo(1, "Charlie", "content", Status.PENDING, 300L));
+        todoRepository.add(new Todo(2, "Alpha", "content", Status.PENDING, 200L));
+        todoRepository.add(new Todo(3, "Bravo", "content", Status.PENDING, 100L));
+        todoRepository.updateStatusById(3, Status.DONE);
+
+        List<Todo> byTitle = todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE);
+        List<Todo> byDueDate = todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.DUE_DATE);
+        List<Todo> pendingById = todoRepository.findTodoContentByStatusSortedByField(Status.PENDING, SortBy.ID);
+
+        assertEquals(List.of(2, 3, 1), byTitle.stream().map(Todo::getId).toList());
+        assertEquals(List.of(3, 2, 1), byDueDate.stream().map(Todo::getId).toList());
+        assertEquals(List.of(1, 2), pendingById.stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    public void findTodoContentPageByStatusSortedByFieldTest() {
+        todoRepository.add(new Todo(1, "Charlie", "content", Status.PENDING, 300L));
+        todoRepository.add(new Todo(2, "Alpha", "content", Status.PENDING, 200L));
+        todoRepository.add(new Todo(3, "Bravo", "content", Status.PENDING, 100L));
+        todoRepository.add(new Todo(4, "Delta", "content", Status.DONE, 50L));
+
+        List<Todo> firstPage = todoRepository.findTodoContentPageByStatusSortedByField(Status.PENDING, SortBy.TITLE, null, 2);
+        List<Todo> secondPage = todoRepository.findTodoContentPageByStatusSortedByField(Status.PENDING, SortBy.TITLE, firstPage.get(1), 2);
+        List<Todo> afterDeletedKey = todoRepository.findTodoContentPageByStatusSortedByField(Status.ALL, SortBy.DUE_DATE,
+                new Todo(5, null, null, null, 100L), 10);
+
+        assertEquals(List.of(2, 3), firstPage.stream().map(Todo::getId).toList());
+        assertEquals(List.of(1), secondPage.stream().map(Todo::getId).toList());
+        assertEquals(List.of(2, 1), afterDeletedKey.stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    public void readsAreIsolatedFromLaterWritesTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        todoRepository.add(new Todo(2, "Bravo", "content", Status.PENDING, 200L));
+
+        List<Todo> before = todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE);
+        assertSame(before, todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE));
+
+        todoRepository.updateStatusById(1, Status.DONE);
+        todoRepository.deleteById(2);
+        List<Todo> after = todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE);
+
+        assertEquals(List.of(1, 2), before.stream().map(Todo::getId).toList());
+        assertEquals(Status.PENDING, before.get(0).getStatus());
+        assertEquals(List.of(1), after.stream().map(Todo::getId).toList());
+        assertEquals(Status.DONE, after.get(0).getStatus());
+        assertThrows(UnsupportedOperationException.class, () -> after.sort(SortedTodoIndex.BY_ID));
+    }
+
+    @Test
+    public void readSnapshotStaysWithinCapacityTest() {
+        TodoRepository bounded = new TodoRepository(new HeapTodoStorageEngine(), 3);
+        bounded.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        bounded.add(new Todo(2, "Bravo", "content", Status.PENDING, 200L));
+
+        List<Todo> byTitle = bounded.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE);
+        assertSame(byTitle, bounded.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE));
+
+        List<Todo> byDueDate = bounded.findTodoContentByStatusSortedByField(Status.ALL, SortBy.DUE_DATE);
+        assertNotSame(byDueDate, bounded.findTodoContentByStatusSortedByField(Status.ALL, SortBy.DUE_DATE));
+        assertEquals(byDueDate, bounded.findTodoContentByStatusSortedByField(Status.ALL, SortBy.DUE_DATE));
+    }
+
+    @Test
+    public void columnarReadsAreNotCachedTest() {
+        TodoRepository columnar = new TodoRepository(new ColumnarTodoStorageEngine());
+        columnar.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+
+        List<Todo> first = columnar.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE);
+
+        assertNotSame(first, columnar.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE));
+        assertEquals(first, columnar.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE));
+        assertThrows(UnsupportedOperationException.class, () -> first.sort(SortedTodoIndex.BY_ID));
+    }
+
+    @Test
+    public void versionTagMovesOnlyOnWritesTest() {
+        String initial = todoRepository.getVersionTag();
+        todoRepository.findTodoContentByStatus(Status.ALL);
+        todoRepository.countByStatus(Status.ALL);
+        assertEquals(initial, todoRepository.getVersionTag());
+
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        String afterAdd = todoRepository.getVersionTag();
+        todoRepository.updateStatusById(2, Status.DONE);
+        todoRepository.deleteById(2);
+
+        assertNotEquals(initial, afterAdd);
+        assertEquals(afterAdd, todoRepository.getVersionTag());
+    }
+
+    @Test
+    public void addAllAndFindExistingTitlesTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        String versionTag = todoRepository.getVersionTag();
+
+        todoRepository.addAll(List.of(
+                new Todo(5, "Bravo", "content", Status.PENDING, 200L),
+                new Todo(6, "Charlie", "content", Status.PENDING, 300L)));
+
+        assertEquals(3, todoRepository.countByStatus(Status.ALL));
+        assertEquals(6, todoRepository.getHighestId());
+        assertNotEquals(versionTag, todoRepository.getVersionTag());
+        assertEquals(Set.of("Alpha", "Charlie"), todoRepository.findExistingTitles(Set.of("Alpha", "Charlie", "Delta")));
+    }
+
+    @Test
+    public void partiallyAppliedBatchMovesVersionTest() {
+        TodoJournal journal = mock(TodoJournal.class);
+        when(journal.logAdd(any())).thenReturn(1L).thenThrow(new UncheckedIOException(new IOException("disk full")));
+        todoRepository.attachJournal(journal);
+        String versionTag = todoRepository.getVersionTag();
+        assertTrue(todoRepository.findTodoContentByStatus(Status.ALL).isEmpty());
+
+        assertThrows(UncheckedIOException.class, () -> todoRepository.addAll(List.of(
+                new Todo(1, "Alpha", "content", Status.PENDING, 100L),
+                new Todo(2, "Bravo", "content", Status.PENDING, 200L))));
+
+        assertNotEquals(versionTag, todoRepository.getVersionTag());
+        assertEquals(List.of(1), todoRepository.findTodoContentByStatus(Status.ALL).stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    public void partiallyAppliedDeleteWhereMovesVersionTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.DONE, 100L));
+        todoRepository.add(new Todo(2, "Bravo", "content", Status.DONE, 200L));
+        TodoJournal journal = mock(TodoJournal.class);
+        when(journal.logDelete(anyInt())).thenReturn(1L).thenThrow(new UncheckedIOException(new IOException("disk full")));
+        todoRepository.attachJournal(journal);
+        String versionTag = todoRepository.getVersionTag();
+
+        assertThrows(UncheckedIOException.class,
+                () -> todoRepository.deleteWhere(new TodoFilter(Status.DONE, null, null, null)));
+
+        assertNotEquals(versionTag, todoRepository.getVersionTag());
+        assertEquals(1, todoRepository.countByStatus(Status.ALL));
+    }
+
+    @Test
+    public void updateStatusWhereJournalsOnlyChangedTodosTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        todoRepository.add(new Todo(2, "Bravo", "content", Status.DONE, 200L));
+        TodoJournal journal = mock(TodoJournal.class);
+        todoRepository.attachJournal(journal);
+        String versionTag = todoRepository.getVersionTag();
+
+        assertEquals(0, todoRepository.updateStatusWhere(new TodoFilter(Status.DONE, null, null, null), Status.DONE));
+        assertEquals(versionTag, todoRepository.getVersionTag());
+        assertEquals(1, todoRepository.updateStatusWhere(new TodoFilter(Status.ALL, null, null, null), Status.DONE));
+
+        verify(journal).logStatusUpdate(1, Status.DONE);
+        verify(journal, never()).logStatusUpdate(eq(2), any());
+    }
+
+    @Test
+    public void updateStatusWhereDueDateBeforeTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.PENDING, 100L));
+        todoRepository.add(new Todo(2, "Bravo", "content", Status.PENDING, 200L));
+        todoRepository.add(new Todo(3, "Charlie", "content", Status.DONE, 100L));
+        todoRepository.add(new Todo(4, "Delta", "content", Status.PENDING, null));
+
+        int updated = todoRepository.updateStatusWhere(new TodoFilter(Status.PENDING, null, 200L, null), Status.LATE);
+
+        assertEquals(1, updated);
+        assertEquals(Status.LATE, todoRepository.findById(1).getStatus());
+        assertEquals(Status.PENDING, todoRepository.findById(2).getStatus());
+        assertEquals(Status.DONE, todoRepository.findById(3).getStatus());
+        assertEquals(Status.PENDING, todoRepository.findById(4).getStatus());
+    }
+
+    @Test
+    public void deleteWhereStatusAndIdsTest() {
+        todoRepository.add(new Todo(1, "Alpha", "content", Status.DONE, 100L));
+        todoRepository.add(new Todo(2, "Bravo", "content", Status.DONE, 200L));
+        todoRepository.add(new Todo(3, "Charlie", "content", Status.PENDING, 300L));
+
+        assertEquals(1, todoRepository.deleteWhere(new TodoFilter(Status.DONE, null, null, Set.of(2, 3, 9))));
+        assertEquals(1, todoRepository.deleteWhere(new TodoFilter(Status.DONE, null, null, null)));
+
+        assertEquals(List.of(3), todoRepository.findTodoContentByStatus(Status.ALL).stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    public void searchTracksAddsAndDeletesTest() {
+        todoRepository.add(new Todo(1, "Buy milk", "corner shop", Status.PENDING, 1L));
+        todoRepository.addAll(List.of(new Todo(2, "Milk the cow", "farm", Status.DONE, 1L),
+                new Todo(3, "Buy bread", "corner shop", Status.PENDING, 1L)));
+
+        assertEquals(List.of(1, 2), todoRepository.search(List.of("milk"), true, Status.ALL, 10).todos().stream().map(Todo::getId).toList());
+        assertEquals(List.of(2), todoRepository.search(List.of("milk"), true, Status.DONE, 10).todos().stream().map(Todo::getId).toList());
+        assertEquals(3, todoRepository.search(List.of("milk", "shop"), false, Status.ALL, 10).total());
+
+        todoRepository.deleteById(1);
+        todoRepository.deleteWhere(new TodoFilter(Status.DONE, null, null, null));
+
+        assertEquals(0, todoRepository.search(List.of("milk"), true, Status.ALL, 10).total());
+        assertEquals(List.of(3), todoRepository.search(List.of("shop"), true, Status.PENDING, 10).todos().stream().map(Todo::getId).toList());
+
+        todoRepository.clear();
+
+        assertEquals(0, todoRepository.search(List.of("shop"), true, Status.ALL, 10).total());
+    }
+
+    @Test
+    public void lazyIndexesAreBuiltOnFirstUseTest() {
+        TodoRepository columnar = new TodoRepository(new ColumnarTodoStorageEngine());
+        columnar.add(new Todo(1, "Buy milk", "corner shop", Status.PENDING, 1L));
+        columnar.addAll(List.of(new Todo(2, "Milk the cow", "farm", Status.PENDING, 1L),
+                new Todo(3, "Buy bread", "corner shop", Status.PENDING, 1L)));
+        columnar.updateStatusById(2, Status.DONE);
+
+        assertEquals(List.of(2), columnar.search(List.of("milk"), true, Status.DONE, 10).todos().stream().map(Todo::getId).toList());
+
+        columnar.deleteById(1);
+        columnar.add(new Todo(4, "Milk again", "shop", Status.PENDING, 1L));
+
+        assertEquals(List.of(2, 4), columnar.search(List.of("milk"), true, Status.ALL, 10).todos().stream().map(Todo::getId).toList());
+        assertFalse(columnar.existsByTitle("Buy milk"));
+        assertEquals(List.of("Milk again", "Milk the cow"), columnar.findTitlesByPrefix("milk", 10));
+        columnar.deleteById(4);
+        assertEquals(List.of("Milk the cow"), columnar.findTitlesByPrefix("milk", 10));
+    }
+
+    @Test
+    public void lazyIndexesAreNotRebuiltOnRestoreTest() {
+        todoRepository.add(new Todo(1, "Buy milk", "corner shop", Status.PENDING, 1L));
+        todoRepository.add(new Todo(2, "Buy bread", "corner shop", Status.DONE, 1L));
+        TodoRepository recovered = new TodoRepository(new HeapTodoStorageEngine(), 0, IndexBuild.LAZY, IndexBuild.LAZY);
+        recovered.search(List.of("milk"), true, Status.ALL, 10);
+
+        recovered.restore(todoRepository.checkpoint());
+
+        assertTrue(recovered.existsByTitle("Buy milk"));
+        assertEquals(List.of(1), recovered.search(List.of("milk"), true, Status.ALL, 10).todos().stream().map(Todo::getId).toList());
+        assertEquals(2, recovered.search(List.of("shop"), true, Status.ALL, 10).total());
+        assertEquals(List.of("Buy bread", "Buy milk"), recovered.findTitlesByPrefix("buy", 10));
+    }
+
+    @Test
+    public void titleLookupsTrackAddsAndDeletesTest() {
+        todoRepository.add(new Todo(1, "Buy milk", "content", Status.PENDING, 1L));
+        todoRepository.addAll(List.of(new Todo(2, "Buy bread", "content", Status.PENDING, 1L),
+                new Todo(3, "Call mom", "content", Status.DONE, 1L)));
+
+        assertEquals(List.of("Buy bread", "Buy milk"), todoRepository.findTitlesByPrefix("buy", 10));
+
+        todoRepository.deleteById(1);
+        todoRepository.deleteWhere(new TodoFilter(Status.DONE, null, null, null));
+
+        assertFalse(todoRepository.existsByTitle("Buy milk"));
+        assertFalse(todoRepository.existsByTitle("Call mom"));
+        assertTrue(todoRepository.existsByTitle("Buy bread"));
+        assertEquals(List.of("Buy bread"), todoRepository.findTitlesByPrefix("", 10));
+    }
+
+    @Test
+    public void concurrentAddAndDeleteTest() throws InterruptedException {
+        final int threads = 8;
+        final int todosPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * todosPerThread;
+            executor.submit(() -> {
+                for (int id = offset + 1; id <= offset + todosPerThread; id++) {
+                    todoRepository.add(new Todo(id, "Todo " + id, "content", Status.PENDING, (long) id));
+                    todoRepository.findTodoContentByStatusSortedByField(Status.ALL, SortBy.DUE_DATE);
+                    if (id % 2 == 0) {
+                        todoRepository.deleteById(id);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(threads * todosPerThread / 2, todoRepository.countByStatus(Status.ALL));
+        assertEquals(threads * todosPerThread / 2, todoRepository.countByStatus(Status.PENDING));
+    }
+
 }
@@ -0,0 +1,183 @@
+package com.shai.to_do.unit.repository.engine;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoFilter;
+import com.shai.to_do.repository.engine.ColumnarTodoStorageEngine;
+import com.shai.to_do.repository.engine.HeapTodoStorageEngine;
+import com.shai.to_do.repository.engine.TodoStorageEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarTodoStorageEngineTest {
+
+    private static final String[] STATUSES = {Status.PENDING, Status.DONE, Status.LATE};
+    private static final String[] SORT_FIELDS = {SortBy.ID, SortBy.TITLE, SortBy.DUE_DATE};
+
+    private ColumnarTodoStorageEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ColumnarTodoStorageEngine();
+    }
+
+    @Test
+    public void putGetAndUpdateStatusTest() {
+        engine.put(new Todo(1, "title", "content", Status.PENDING, 5L));
+        engine.put(new Todo(2, null, null, Status.DONE, null));
+
+        assertEquals(new Todo(1, "title", "content", Status.PENDING, 5L), engine.get(1));
+        assertEquals(new Todo(2, null, null, Status.DONE, null), engine.get(2));
+        assertNull(engine.get(3));
+        assertTrue(engine.containsTitle("title"));
+        assertFalse(engine.containsTitle("other"));
+        assertFalse(engine.containsTitle(null));
+
+        assertEquals(Status.PENDING, engine.updateStatus(1, Status.LATE));
+        assertNull(engine.updateStatus(3, Status.LATE));
+
+        assertEquals(Status.LATE, engine.get(1).getStatus());
+        assertEquals(0, engine.countByStatus(Status.PENDING));
+        assertEquals(1, engine.countByStatus(Status.LATE));
+        assertEquals(2, engine.countByStatus(Status.ALL));
+    }
+
+    @Test
+    public void removeReusesSlotsTest() {
+        engine.put(new Todo(1, "first", "content", Status.PENDING, 1L));
+        engine.put(new Todo(2, "second", "content", Status.PENDING, 2L));
+
+        assertTrue(engine.remove(1));
+        assertFalse(engine.remove(1));
+        engine.put(new Todo(3, "third", "content", Status.DONE, 0L));
+
+        assertFalse(engine.contains(1));
+        assertEquals(2, engine.size());
+        assertArrayEquals(new int[]{2, 3}, engine.idsSortedBy(SortBy.ID));
+        assertArrayEquals(new int[]{3, 2}, engine.idsSortedBy(SortBy.DUE_DATE));
+        assertArrayEquals(new int[]{2, 3}, engine.idsSortedBy(SortBy.TITLE));
+    }
+
+    @Test
+    public void matchesHeapEngineUnderRandomOperationsTest() {
+        TodoStorageEngine heap = new HeapTodoStorageEngine();
+        Random random = new Random(42);
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(2_000);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                if (!heap.contains(id)) {
+                    String status = STATUSES[random.nextInt(STATUSES.length)];
+                    String title = random.nextInt(20) == 0 ? null : "title" + random.nextInt(500);
+                    Long dueDate = random.nextInt(20) == 0 ? null : (long) random.nextInt(1_000);
+                    heap.put(new Todo(id, title, "content" + id, status, dueDate));
+                    engine.put(new Todo(id, title, "content" + id, status, dueDate));
+                }
+            } else if (operation < 8) {
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                assertEquals(heap.updateStatus(id, status), engine.updateStatus(id, status));
+            } else {
+                assertEquals(heap.remove(id), engine.remove(id));
+            }
+            if (step % 1_000 == 0) {
+                assertSameContents(heap, engine);
+            }
+        }
+        assertSameContents(heap, engine);
+    }
+
+    @Test
+    public void keysetPagesAfterDeletesThatCompactTextTest() {
+        TodoStorageEngine heap = new HeapTodoStorageEngine();
+        String content = "x".repeat(400);
+        for (int id = 1; id <= 4_000; id++) {
+            Todo todo = new Todo(id, "title " + "y".repeat(id % 37) + id, content, STATUSES[id % STATUSES.length], (long) (id * 7919 % 4_000));
+            engine.put(todo);
+            heap.put(todo);
+        }
+        for (String sortBy : SORT_FIELDS) {
+            engine.findPageByStatusSortedBy(Status.ALL, sortBy, null, 3);
+        }
+        for (int id = 1; id <= 3_000; id++) {
+            engine.remove(id);
+            heap.remove(id);
+        }
+
+        for (String sortBy : SORT_FIELDS) {
+            List<Todo> paged = new ArrayList<>();
+            Todo after = null;
+            List<Todo> page;
+            do {
+                page = engine.findPageByStatusSortedBy(Status.ALL, sortBy, after, 7);
+                paged.addAll(page);
+                after = page.isEmpty() ? null : page.get(page.size() - 1);
+            } while (page.size() == 7);
+            assertEquals(heap.findByStatusSortedBy(Status.ALL, sortBy), paged, sortBy);
+        }
+        assertFalse(engine.containsTitle("title y1"));
+        assertTrue(engine.containsTitle("title yyyy3001"));
+    }
+
+    @Test
+    public void restoreKeepsPersistedOrderingsTest() {
+        TodoStorageEngine heap = new HeapTodoStorageEngine();
+        for (int id = 1; id <= 100; id++) {
+            heap.put(new Todo(id, "title" + (100 - id), "content", STATUSES[id % 3], (long) (id % 7)));
+        }
+
+        engine.restore(heap.exportSortedById(), heap.idsSortedBy(SortBy.TITLE), heap.idsSortedBy(SortBy.DUE_DATE));
+
+        assertSameContents(heap, engine);
+    }
+
+    @Test
+    public void clearTest() {
+        engine.put(new Todo(1, "title", "content", Status.PENDING, 1L));
+
+        engine.clear();
+
+        assertEquals(0, engine.size());
+        assertFalse(engine.contains(1));
+        assertTrue(engine.findByStatus(Status.ALL).isEmpty());
+    }
+
+    private static void assertSameContents(TodoStorageEngine expected, TodoStorageEngine actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(expected.containsTitle("title" + i), actual.containsTitle("title" + i), "title" + i);
+        }
+        for (String status : List.of(Status.ALL, Status.PENDING, Status.DONE, Status.LATE)) {
+            assertEquals(expected.countByStatus(status), actual.countByStatus(status));
+            for (String sortBy : SORT_FIELDS) {
+                assertEquals(expected.findByStatusSortedBy(status, sortBy), actual.findByStatusSortedBy(status, sortBy));
+            }
+        }
+        for (TodoFilter filter : List.of(new TodoFilter(Status.ALL, 100L, 500L, null),
+                new TodoFilter(Status.LATE, null, 300L, null), new TodoFilter(Status.DONE, 700L, null, null))) {
+            assertArrayEquals(IntStream.of(expected.findIdsMatching(filter)).sorted().toArray(),
+                    IntStream.of(actual.findIdsMatching(filter)).sorted().toArray());
+        }
+        for (String sortBy : SORT_FIELDS) {
+            assertSamePages(expected, actual, sortBy);
+            assertArrayEquals(expected.idsSortedBy(sortBy), actual.idsSortedBy(sortBy));
+        }
+    }
+
+    private static void assertSamePages(TodoStorageEngine expected, TodoStorageEngine actual, String sortBy) {
+        Todo after = null;
+        List<Todo> page;
+        do {
+            page = expected.findPageByStatusSortedBy(Status.PENDING, sortBy, after, 97);
+            assertEquals(page, actual.findPageByStatusSortedBy(Status.PENDING, sortBy, after, 97));
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (after != null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.repository.index.DueDateHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DueDateHeapTest {
+
+    @Test
+    public void popReturnsIdsInDueDateOrderTest() {
+        DueDateHeap heap = new DueDateHeap();
+        Random random = new Random(7);
+        for (int id = 0; id < 10_000; id++) {
+            heap.push(random.nextInt(1_000_000), id);
+        }
+
+        long previous = Long.MIN_VALUE;
+        int popped = 0;
+        while (!heap.isEmpty()) {
+            long dueDate = heap.peekDueDate();
+            heap.pop();
+            assertTrue(dueDate >= previous);
+            previous = dueDate;
+            popped++;
+        }
+        assertEquals(10_000, popped);
+    }
+
+    @Test
+    public void popEmptyHeapTest_ShouldThrow_IllegalStateException() {
+        DueDateHeap heap = new DueDateHeap();
+        heap.push(5L, 1);
+
+        assertEquals(1, heap.pop());
+        assertThrows(IllegalStateException.class, heap::pop);
+    }
+}
@@ -0,0 +1,67 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.index.IntTodoHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntTodoHashMapTest {
+
+    private IntTodoHashMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new IntTodoHashMap();
+    }
+
+    @Test
+    public void putAndGetTest() {
+        Todo todo = new Todo(1, "title", "content", Status.PENDING, 1L);
+
+        assertNull(map.put(1, todo));
+
+        assertSame(todo, map.get(1));
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putExistingKeyReplacesValueTest() {
+        Todo first = new Todo(1, "first", "content", Status.PENDING, 1L);
+        Todo second = new Todo(1, "second", "content", Status.PENDING, 1L);
+        map.put(1, first);
+
+        assertSame(first, map.put(1, second));
+
+        assertSame(second, map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void growAndRemoveKeepsAllOtherKeysReachableTest() {
+        final int count = 10_000;
+        for (int id = 0; id < count; id++) {
+            map.put(id, new Todo(id, "title" + id, "content", Status.PENDING, (long) id));
+        }
+
+        for (int id = 0; id < count; id += 3) {
+            assertEquals(id, map.remove(id).getId());
+        }
+
+        for (int id = 0; id < count; id++) {
+            assertEquals(id % 3 != 0, map.containsKey(id));
+        }
+        assertEquals(count - (count + 2) / 3, map.size());
+        assertEquals(map.size(), map.values().size());
+    }
+
+    @Test
+    public void removeNonExistingKeyTest() {
+        assertNull(map.remove(42));
+        assertTrue(map.isEmpty());
+    }
+}
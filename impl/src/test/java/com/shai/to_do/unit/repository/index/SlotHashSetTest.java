@@ -0,0 +1,64 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.repository.index.SlotHashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotHashSetTest {
+
+    private static final int SLOTS = 10_000;
+
+    private final String[] keys = new String[SLOTS];
+    private SlotHashSet set;
+
+    @BeforeEach
+    void setUp() {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            keys[slot] = "key" + slot % 3_000;
+        }
+        set = new SlotHashSet(slot -> keys[slot].hashCode());
+    }
+
+    @Test
+    public void containsMatchesByKeyTest() {
+        set.add(1);
+        set.add(3_001);
+
+        assertTrue(set.contains("key1".hashCode(), slot -> keys[slot].equals("key1")));
+        assertFalse(set.contains("key2".hashCode(), slot -> keys[slot].equals("key2")));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(1));
+        assertTrue(set.contains("key1".hashCode(), slot -> keys[slot].equals("key1")));
+        assertTrue(set.remove(3_001));
+        assertFalse(set.contains("key1".hashCode(), slot -> keys[slot].equals("key1")));
+        assertFalse(set.remove(3_001));
+    }
+
+    @Test
+    public void matchesHashSetUnderRandomAddsAndRemovesTest() {
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 50_000; step++) {
+            int slot = random.nextInt(SLOTS);
+            if (random.nextBoolean()) {
+                if (expected.add(slot)) {
+                    set.add(slot);
+                }
+            } else {
+                assertEquals(expected.remove(slot), set.remove(slot));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (int slot = 0; slot < SLOTS; slot++) {
+            int probe = slot;
+            assertEquals(expected.contains(slot), set.contains(keys[slot].hashCode(), candidate -> candidate == probe));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.repository.index.SortedSlotList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedSlotListTest {
+
+    private static final int SLOTS = 20_000;
+
+    private final int[] keys = new int[SLOTS];
+    private final Comparator<Integer> order = (slot1, slot2) -> {
+        int result = Integer.compare(keys[slot1], keys[slot2]);
+        return result != 0 ? result : Integer.compare(slot1, slot2);
+    };
+    private SortedSlotList list;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            keys[slot] = random.nextInt(500);
+        }
+        list = new SortedSlotList(order::compare);
+    }
+
+    @Test
+    public void emptyListHasNoSlotsTest() {
+        assertFalse(list.cursor().hasNext());
+        assertFalse(list.cursorAfter(slot -> true).hasNext());
+        assertFalse(list.remove(1));
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void matchesTreeSetUnderRandomAddsAndRemovesTest() {
+        NavigableSet<Integer> expected = new TreeSet<>(order);
+        Random random = new Random(42);
+        for (int step = 0; step < 60_000; step++) {
+            int slot = random.nextInt(SLOTS);
+            if (random.nextInt(3) > 0) {
+                if (expected.add(slot)) {
+                    list.add(slot);
+                }
+            } else {
+                assertEquals(expected.remove(slot), list.remove(slot));
+            }
+            if (step % 5_000 == 0) {
+                assertEquals(new ArrayList<>(expected), toList(list.cursor()));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertEquals(new ArrayList<>(expected), toList(list.cursor()));
+    }
+
+    @Test
+    public void cursorAfterStartsPastTheKeyTest() {
+        NavigableSet<Integer> expected = new TreeSet<>(order);
+        for (int slot = 0; slot < 5_000; slot++) {
+            expected.add(slot);
+            list.add(slot);
+        }
+        for (int key : new int[]{0, 1, 250, 499}) {
+            List<Integer> tail = expected.stream().filter(slot -> keys[slot] > key).toList();
+            assertEquals(tail, toList(list.cursorAfter(slot -> keys[slot] <= key)));
+        }
+        assertFalse(list.cursorAfter(slot -> true).hasNext());
+    }
+
+    @Test
+    public void bulkLoadKeepsOrderAndAcceptsLaterWritesTest() {
+        List<Integer> sorted = new ArrayList<>();
+        for (int slot = 0; slot < 3_000; slot++) {
+            sorted.add(slot);
+        }
+        sorted.sort(order);
+        int[] slots = sorted.stream().mapToInt(Integer::intValue).toArray();
+
+        list.bulkLoad(slots, slots.length);
+        list.add(3_000);
+        assertTrue(list.remove(slots[100]));
+
+        NavigableSet<Integer> expected = new TreeSet<>(order);
+        expected.addAll(sorted);
+        expected.add(3_000);
+        expected.remove(slots[100]);
+        assertEquals(expected.size(), list.size());
+        assertEquals(new ArrayList<>(expected), toList(list.cursor()));
+    }
+
+    private static List<Integer> toList(SortedSlotList.Cursor cursor) {
+        List<Integer> slots = new ArrayList<>();
+        while (cursor.hasNext()) {
+            slots.add(cursor.next());
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,44 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.index.SortedTodoIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedTodoIndexTest {
+
+    @Test
+    public void bulkLoadedIndexSupportsRangeViewsTest() {
+        Todo[] byId = new Todo[10];
+        for (int i = 0; i < byId.length; i++) {
+            byId[i] = new Todo(i + 1, "title " + (char) ('j' - i), "content", Status.PENDING, (long) (i % 3));
+        }
+        Todo[] byTitle = byId.clone();
+        Arrays.sort(byTitle, SortedTodoIndex.BY_TITLE);
+        Todo[] byDueDate = byId.clone();
+        Arrays.sort(byDueDate, SortedTodoIndex.BY_DUE_DATE);
+        SortedTodoIndex index = new SortedTodoIndex();
+
+        index.bulkLoad(byId, byTitle, byDueDate);
+        index.add(new Todo(11, "title a", "content", Status.PENDING, 0L));
+
+        assertEquals(11, index.size());
+        assertEquals(List.of(10, 11, 9), ids(index.sortedBy(SortBy.TITLE).headSet(byTitle[2], false)));
+        assertEquals(List.of(7, 6), ids(index.sortedBy(SortBy.TITLE).subSet(byTitle[2], false, byTitle[5], false)));
+        assertEquals(List.of(8, 3, 6, 9), ids(index.sortedBy(SortBy.DUE_DATE).tailSet(byDueDate[6], true)));
+        assertEquals(List.of(9, 10), ids(index.sortedBy(SortBy.ID).tailSet(byId[7], false).headSet(byId[9], true)));
+    }
+
+    private static List<Integer> ids(Iterable<Todo> todos) {
+        List<Integer> ids = new ArrayList<>();
+        todos.forEach(todo -> ids.add(todo.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.repository.index.TitleTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleTrieTest {
+
+    private TitleTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new TitleTrie();
+        for (String title : List.of("Buy milk", "Buy bread", "buy", "Bug fix", "Call mom", "Buy milk and eggs")) {
+            trie.add(title);
+        }
+    }
+
+    @Test
+    public void containsIsExactTest() {
+        assertTrue(trie.contains("Buy milk"));
+        assertTrue(trie.contains("buy"));
+        assertFalse(trie.contains("Buy"));
+        assertFalse(trie.contains("buy milk"));
+        assertFalse(trie.contains("Buy mil"));
+        assertFalse(trie.contains(null));
+        assertEquals(6, trie.size());
+    }
+
+    @Test
+    public void findByPrefixIsCaseInsensitiveAndOrderedTest() {
+        assertEquals(List.of("buy", "Buy bread", "Buy milk", "Buy milk and eggs"), trie.findByPrefix("BUY", 10));
+        assertEquals(List.of("Bug fix", "buy", "Buy bread"), trie.findByPrefix("bu", 3));
+        assertEquals(List.of("Buy milk", "Buy milk and eggs"), trie.findByPrefix("buy mi", 10));
+        assertEquals(6, trie.findByPrefix("", 10).size());
+        assertTrue(trie.findByPrefix("buy x", 10).isEmpty());
+        assertTrue(trie.findByPrefix("z", 10).isEmpty());
+    }
+
+    @Test
+    public void removeMergesNodesTest() {
+        assertTrue(trie.remove("Buy milk"));
+        assertFalse(trie.remove("Buy milk"));
+        assertTrue(trie.remove("buy"));
+
+        assertFalse(trie.contains("Buy milk"));
+        assertTrue(trie.contains("Buy milk and eggs"));
+        assertEquals(List.of("Buy bread", "Buy milk and eggs"), trie.findByPrefix("buy", 10));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void duplicateTitlesAreListedOnceTest() {
+        trie.add("Call mom");
+
+        assertEquals(List.of("Call mom"), trie.findByPrefix("call", 10));
+        assertTrue(trie.remove("Call mom"));
+        assertTrue(trie.contains("Call mom"));
+    }
+
+    @Test
+    public void clearTest() {
+        trie.clear();
+
+        assertEquals(0, trie.size());
+        assertFalse(trie.contains("Buy milk"));
+        assertTrue(trie.findByPrefix("", 10).isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.shai.to_do.unit.repository.index;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.index.TodoSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TodoSearchIndexTest {
+
+    private TodoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TodoSearchIndex();
+        index.add(new Todo(1, "Buy milk", "from the corner shop", Status.PENDING, 1L));
+        index.add(new Todo(2, "Call mom", "ask about the milk recipe", Status.PENDING, 1L));
+        index.add(new Todo(3, "Shop for shoes", "running shoes, size 42", Status.DONE, 1L));
+    }
+
+    @Test
+    public void tokenizeTest() {
+        assertEquals(List.of("running", "shoes", "size", "42"), TodoSearchIndex.tokenize("Running shoes, SIZE 42!"));
+        assertTrue(TodoSearchIndex.tokenize(" ,.; ").isEmpty());
+        assertTrue(TodoSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    public void searchAllTermsRanksTitleMatchesFirstTest() {
+        TodoSearchIndex.Hits hits = index.search(List.of("milk"), true, Status.ALL, 10);
+
+        assertArrayEquals(new int[]{1, 2}, hits.ids());
+        assertEquals(2, hits.total());
+        assertEquals(0, index.search(List.of("milk", "shoes"), true, Status.ALL, 10).total());
+        assertArrayEquals(new int[]{2}, index.search(List.of("milk", "recipe"), true, Status.ALL, 10).ids());
+    }
+
+    @Test
+    public void searchAnyTermTest() {
+        TodoSearchIndex.Hits hits = index.search(List.of("milk", "shoes", "unknown"), false, Status.ALL, 10);
+
+        assertEquals(3, hits.total());
+        assertArrayEquals(new int[]{3, 1, 2}, hits.ids());
+    }
+
+    @Test
+    public void searchAppliesStatusAndLimitTest() {
+        index.updateStatus(1, Status.DONE);
+
+        TodoSearchIndex.Hits filtered = index.search(List.of("milk"), true, Status.PENDING, 10);
+        TodoSearchIndex.Hits limited = index.search(List.of("milk", "shop"), false, Status.ALL, 1);
+
+        assertArrayEquals(new int[]{2}, filtered.ids());
+        assertEquals(1, filtered.total());
+        assertArrayEquals(new int[]{1, 3}, index.search(List.of("milk", "shop"), false, Status.DONE, 10).ids());
+        assertEquals(1, limited.ids().length);
+        assertEquals(3, limited.total());
+    }
+
+    @Test
+    public void outOfOrderAddsAndRemovalsKeepPostingsSortedTest() {
+        index.clear();
+        for (int id = 100; id >= 1; id--) {
+            index.add(new Todo(id, "task " + id, "common", Status.PENDING, 1L));
+        }
+        for (int id = 1; id <= 80; id++) {
+            index.remove(new Todo(id, "task " + id, "common", Status.PENDING, 1L));
+        }
+        index.add(new Todo(5, "task 5", "common", Status.PENDING, 1L));
+
+        TodoSearchIndex.Hits hits = index.search(List.of("task", "common"), true, Status.ALL, 100);
+
+        assertEquals(21, hits.total());
+        assertEquals(5, hits.ids()[0]);
+        assertEquals(81, hits.ids()[1]);
+        assertEquals(100, hits.ids()[20]);
+        assertArrayEquals(new int[]{5}, index.search(List.of("5", "common"), true, Status.ALL, 10).ids());
+    }
+
+    @Test
+    public void removeTest() {
+        index.remove(new Todo(1, "Buy milk", "from the corner shop", Status.PENDING, 1L));
+
+        assertArrayEquals(new int[]{2}, index.search(List.of("milk"), true, Status.ALL, 10).ids());
+        assertEquals(0, index.search(List.of("buy"), true, Status.ALL, 10).total());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void clearTest() {
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+        assertEquals(0, index.search(List.of("milk"), false, Status.ALL, 10).total());
+    }
+}
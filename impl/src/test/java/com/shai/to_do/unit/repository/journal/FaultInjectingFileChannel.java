@@ -0,0 +1,126 @@
+package com.shai.to_do.unit.repository.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class FaultInjectingFileChannel extends FileChannel {
+    private final FileChannel delegate;
+    private volatile int failWriteAfterBytes = -1;
+    private volatile boolean failForce;
+
+    public FaultInjectingFileChannel(FileChannel delegate) {
+        this.delegate = delegate;
+    }
+
+    public void failNextWriteAfter(int bytes) {
+        failWriteAfterBytes = bytes;
+    }
+
+    public void failForce() {
+        failForce = true;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int bytes = failWriteAfterBytes;
+        if (bytes < 0) {
+            return delegate.write(src);
+        }
+        failWriteAfterBytes = -1;
+        ByteBuffer partial = src.duplicate();
+        partial.limit(Math.min(src.limit(), src.position() + bytes));
+        delegate.write(partial);
+        src.position(partial.position());
+        throw new IOException("Injected write failure");
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+        if (failForce) {
+            throw new IOException("Injected fsync failure");
+        }
+        delegate.force(metaData);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        return delegate.read(dst);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        return delegate.read(dsts, offset, length);
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        return delegate.write(srcs, offset, length);
+    }
+
+    @Override
+    public long position() throws IOException {
+        return delegate.position();
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+        delegate.position(newPosition);
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        return delegate.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+        delegate.truncate(size);
+        return this;
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return delegate.transferTo(position, count, target);
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        return delegate.transferFrom(src, position, count);
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+        return delegate.read(dst, position);
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+        return delegate.write(src, position);
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        return delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        return delegate.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        return delegate.tryLock(position, size, shared);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        delegate.close();
+    }
+}
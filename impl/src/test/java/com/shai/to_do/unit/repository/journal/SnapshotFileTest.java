@@ -0,0 +1,84 @@
+package com.shai.to_do.unit.repository.journal;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoCheckpoint;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.journal.Checkpointer;
+import com.shai.to_do.repository.journal.FsyncPolicy;
+import com.shai.to_do.repository.journal.SnapshotFile;
+import com.shai.to_do.repository.journal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void writeAndLoadRoundTripTest() throws IOException {
+        SnapshotFile snapshotFile = new SnapshotFile(tempDir.resolve("todos.snapshot"));
+        List<Todo> todos = List.of(
+                new Todo(1, "First", "content", Status.PENDING, 100L),
+                new Todo(4, "Second", null, Status.LATE, 50L));
+
+        snapshotFile.write(new TodoCheckpoint(7, 5, todos, new int[]{1, 4}, new int[]{4, 1}));
+        TodoCheckpoint loaded = snapshotFile.load().orElseThrow();
+
+        assertEquals(7, loaded.lsn());
+        assertEquals(5, loaded.highestId());
+        assertEquals(todos, loaded.todos());
+        assertArrayEquals(new int[]{1, 4}, loaded.idsByTitle());
+        assertArrayEquals(new int[]{4, 1}, loaded.idsByDueDate());
+    }
+
+    @Test
+    public void loadMissingSnapshotTest() throws IOException {
+        assertTrue(new SnapshotFile(tempDir.resolve("missing.snapshot")).load().isEmpty());
+    }
+
+    @Test
+    public void restoreFromSnapshotAndLogTailTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        SnapshotFile snapshotFile = new SnapshotFile(tempDir.resolve("todos.snapshot"));
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            TodoRepository todoRepository = new TodoRepository();
+            todoRepository.attachJournal(writeAheadLog);
+            todoRepository.add(new Todo(1, "Charlie", "content", Status.PENDING, 300L));
+            todoRepository.add(new Todo(2, "Alpha", "content", Status.PENDING, 200L));
+            todoRepository.add(new Todo(3, "Bravo", "content", Status.PENDING, 100L));
+            todoRepository.deleteById(3);
+
+            new Checkpointer(todoRepository, snapshotFile, writeAheadLog, 0).checkpoint();
+            long walSizeAfterCheckpoint = Files.size(walPath);
+
+            todoRepository.updateStatusById(1, Status.DONE);
+            todoRepository.add(new Todo(4, "Delta", "content", Status.PENDING, 400L));
+            assertEquals(0, walSizeAfterCheckpoint);
+        }
+
+        TodoRepository recovered = new TodoRepository();
+        TodoCheckpoint snapshot = snapshotFile.load().orElseThrow();
+        recovered.restore(snapshot);
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            writeAheadLog.replayInto(recovered, snapshot.lsn());
+        }
+
+        assertEquals(4, recovered.getHighestId());
+        assertEquals(Status.DONE, recovered.findById(1).getStatus());
+        assertFalse(recovered.existsById(3));
+        assertEquals(List.of(2, 1, 4), recovered.findTodoContentByStatusSortedByField(Status.ALL, SortBy.TITLE)
+                .stream().map(Todo::getId).toList());
+        assertEquals(List.of(2, 4), recovered.findTodoContentByStatusSortedByField(Status.PENDING, SortBy.DUE_DATE)
+                .stream().map(Todo::getId).toList());
+    }
+}
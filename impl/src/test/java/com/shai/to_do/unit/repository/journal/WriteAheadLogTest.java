@@ -0,0 +1,149 @@
+package com.shai.to_do.unit.repository.journal;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.journal.FsyncPolicy;
+import com.shai.to_do.repository.journal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteAheadLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void replayRestoresAddsUpdatesAndDeletesTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.ALWAYS, 5)) {
+            TodoRepository todoRepository = new TodoRepository();
+            writeAheadLog.replayInto(todoRepository);
+            todoRepository.attachJournal(writeAheadLog);
+
+            todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+            todoRepository.add(new Todo(2, "Second", null, Status.PENDING, 200L));
+            todoRepository.add(new Todo(3, "Third", "content", Status.PENDING, 300L));
+            todoRepository.updateStatusById(2, Status.DONE);
+            todoRepository.deleteById(1);
+        }
+
+        TodoRepository recovered = new TodoRepository();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            writeAheadLog.replayInto(recovered);
+        }
+
+        assertFalse(recovered.existsById(1));
+        assertEquals(Status.DONE, recovered.findById(2).getStatus());
+        assertNull(recovered.findById(2).getContent());
+        assertEquals(300L, recovered.findById(3).getDueDate());
+        assertEquals(1, recovered.countByStatus(Status.PENDING));
+        assertEquals(3, recovered.getHighestId());
+    }
+
+    @Test
+    public void groupCommitWritesAreDurableWhenCallReturnsTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.GROUP, 1)) {
+            TodoRepository todoRepository = new TodoRepository();
+            todoRepository.attachJournal(writeAheadLog);
+
+            todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+
+            TodoRepository recovered = new TodoRepository();
+            try (WriteAheadLog reader = new WriteAheadLog(walPath, FsyncPolicy.OS, 1)) {
+                reader.replayInto(recovered);
+            }
+            assertTrue(recovered.existsById(1));
+        }
+    }
+
+    @Test
+    public void replayTruncatesTornTailTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            TodoRepository todoRepository = new TodoRepository();
+            todoRepository.attachJournal(writeAheadLog);
+            todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+            todoRepository.add(new Todo(2, "Second", "content", Status.PENDING, 200L));
+        }
+        try (FileChannel channel = FileChannel.open(walPath, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        TodoRepository recovered = new TodoRepository();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            writeAheadLog.replayInto(recovered);
+            recovered.attachJournal(writeAheadLog);
+            recovered.add(new Todo(3, "Third", "content", Status.PENDING, 300L));
+        }
+
+        TodoRepository reopened = new TodoRepository();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            writeAheadLog.replayInto(reopened);
+        }
+        assertTrue(reopened.existsById(1));
+        assertFalse(reopened.existsById(2));
+        assertTrue(reopened.existsById(3));
+    }
+
+    @Test
+    public void failedAppendIsRolledBackBeforeTheNextRecordTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        AtomicReference<FaultInjectingFileChannel> channel = new AtomicReference<>();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5, (path, options) -> {
+            channel.set(new FaultInjectingFileChannel(FileChannel.open(path, options)));
+            return channel.get();
+        })) {
+            TodoRepository todoRepository = new TodoRepository();
+            todoRepository.attachJournal(writeAheadLog);
+            todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+
+            channel.get().failNextWriteAfter(5);
+            assertThrows(UncheckedIOException.class,
+                    () -> todoRepository.add(new Todo(2, "Second", "content", Status.PENDING, 200L)));
+            assertFalse(todoRepository.existsById(2));
+
+            todoRepository.add(new Todo(3, "Third", "content", Status.PENDING, 300L));
+        }
+
+        TodoRepository recovered = new TodoRepository();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.OS, 5)) {
+            writeAheadLog.replayInto(recovered);
+        }
+        assertTrue(recovered.existsById(1));
+        assertFalse(recovered.existsById(2));
+        assertTrue(recovered.existsById(3));
+    }
+
+    @Test
+    public void failedGroupCommitFailsWaitersInsteadOfHangingTest() throws IOException {
+        Path walPath = tempDir.resolve("todos.wal");
+        AtomicReference<FaultInjectingFileChannel> channel = new AtomicReference<>();
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(walPath, FsyncPolicy.GROUP, 1, (path, options) -> {
+            channel.set(new FaultInjectingFileChannel(FileChannel.open(path, options)));
+            return channel.get();
+        })) {
+            TodoRepository todoRepository = new TodoRepository();
+            todoRepository.attachJournal(writeAheadLog);
+            todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+
+            channel.get().failForce();
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(UncheckedIOException.class,
+                    () -> todoRepository.add(new Todo(2, "Second", "content", Status.PENDING, 200L))));
+            assertThrows(UncheckedIOException.class,
+                    () -> todoRepository.add(new Todo(3, "Third", "content", Status.PENDING, 300L)));
+            assertFalse(todoRepository.existsById(3));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.shai.to_do.unit.repository.schedule;
+
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.schedule.LateTransitionScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LateTransitionSchedulerTest {
+
+    private TodoRepository todoRepository;
+    private LateTransitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = new TodoRepository();
+        scheduler = new LateTransitionScheduler(todoRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    public void overdueTodosBecomeLateTest() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        todoRepository.add(new Todo(1, "Already overdue", "content", Status.PENDING, now - 1_000));
+        scheduler.start();
+        todoRepository.add(new Todo(2, "Soon overdue", "content", Status.PENDING, now + 200));
+        todoRepository.add(new Todo(3, "Done in time", "content", Status.PENDING, now + 200));
+        todoRepository.add(new Todo(4, "Far future", "content", Status.PENDING, now + 3_600_000));
+        todoRepository.updateStatusById(3, Status.DONE);
+
+        awaitLateCount(2);
+
+        assertEquals(Status.LATE, todoRepository.findById(1).getStatus());
+        assertEquals(Status.LATE, todoRepository.findById(2).getStatus());
+        assertEquals(Status.DONE, todoRepository.findById(3).getStatus());
+        assertEquals(Status.PENDING, todoRepository.findById(4).getStatus());
+        assertEquals(1, todoRepository.countByStatus(Status.PENDING));
+    }
+
+    @Test
+    public void deletedTodosAreSkippedTest() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        scheduler.start();
+        todoRepository.add(new Todo(1, "Deleted", "content", Status.PENDING, now + 100));
+        todoRepository.add(new Todo(2, "Kept", "content", Status.PENDING, now + 150));
+        todoRepository.deleteById(1);
+
+        awaitLateCount(1);
+
+        assertFalse(todoRepository.existsById(1));
+        assertEquals(Status.LATE, todoRepository.findById(2).getStatus());
+        assertEquals(0, scheduler.pending());
+    }
+
+    private void awaitLateCount(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (todoRepository.countByStatus(Status.LATE) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, todoRepository.countByStatus(Status.LATE));
+    }
+}
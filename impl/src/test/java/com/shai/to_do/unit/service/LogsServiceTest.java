@@ -0,0 +1,42 @@
+package com.shai.to_do.unit.service;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.service.LogsService;
+import com.shai.to_do.validators.LogsValidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogsServiceTest {
+
+    private Context context;
+    private LogsService logsService;
+
+    @BeforeEach
+    void setUp() {
+        context = new Context();
+        logsService = new LogsService(context, new LogsValidate(), new RecentRequestsBuffer(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.clearLogsInfo();
+    }
+
+    @Test
+    public void rejectedRecentRequestsQueryStartsItsOwnRequestTest() {
+        context.initLogsInfo();
+        int previousRequest = context.getRequestCounter();
+
+        assertThrows(BadRequestException.class, () -> logsService.getRecentRequests(Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), 0));
+
+        assertEquals(previousRequest + 1, context.getRequestCounter());
+    }
+}
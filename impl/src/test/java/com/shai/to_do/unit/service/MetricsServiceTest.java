@@ -0,0 +1,90 @@
+package com.shai.to_do.unit.service;
+
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.dto.response.LoggingStatsDTO;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.metrics.RequestMetrics;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.service.LogsService;
+import com.shai.to_do.service.MetricsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MetricsServiceTest {
+
+    @Mock
+    private LogsService logsService;
+
+    private RequestMetrics requestMetrics;
+    private TodoRepository todoRepository;
+    private MetricsService metricsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        requestMetrics = new RequestMetrics();
+        todoRepository = new TodoRepository();
+        metricsService = new MetricsService(requestMetrics, todoRepository, logsService);
+        when(logsService.getLoggingStats()).thenReturn(new LoggingStatsDTO(
+                List.of(new LoggingStatsDTO.AppenderQueueDTO("todo-file", 1024, 3)), 5));
+    }
+
+    @Test
+    public void scrapeExposesPrometheusTextFormatTest() {
+        todoRepository.add(new Todo(1, "First", "content", Status.PENDING, 100L));
+        todoRepository.add(new Todo(2, "Second", "content", Status.PENDING, 200L));
+        todoRepository.add(new Todo(3, "Third", "content", Status.DONE, 300L));
+        requestMetrics.recordLatency(Resources.ADD, Verbs.POST, 1_000_000);
+        requestMetrics.recordLatency(Resources.ADD, Verbs.POST, 3_000_000);
+        requestMetrics.recordError(BadRequestException.class);
+
+        List<String> lines = metricsService.scrape().lines().toList();
+
+        assertTrue(lines.contains("# HELP todo_request_duration_seconds Request latency by resource and HTTP verb"));
+        assertTrue(lines.contains("# TYPE todo_request_duration_seconds summary"));
+        for (String quantile : List.of("0.5", "0.9", "0.99", "0.999")) {
+            assertTrue(lines.stream().anyMatch(line -> line.startsWith(
+                    "todo_request_duration_seconds{resource=\"/todo\",verb=\"POST\",quantile=\"" + quantile + "\"} ")), quantile);
+        }
+        assertTrue(lines.contains("todo_request_duration_seconds_sum{resource=\"/todo\",verb=\"POST\"} 0.004"));
+        assertTrue(lines.contains("todo_request_duration_seconds_count{resource=\"/todo\",verb=\"POST\"} 2"));
+        assertTrue(lines.contains("# TYPE todo_request_duration_seconds_max gauge"));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("verb=\"GET\"")));
+
+        assertTrue(lines.contains("# TYPE todo_store_todos gauge"));
+        assertTrue(lines.contains("todo_store_todos{status=\"PENDING\"} 2"));
+        assertTrue(lines.contains("todo_store_todos{status=\"LATE\"} 0"));
+        assertTrue(lines.contains("todo_store_todos{status=\"DONE\"} 1"));
+
+        assertTrue(lines.contains("# TYPE todo_errors_total counter"));
+        assertTrue(lines.contains("todo_errors_total{exception=\"BadRequestException\"} 1"));
+        assertTrue(lines.contains("todo_logging_queue_depth{appender=\"todo-file\"} 3"));
+        assertTrue(lines.contains("todo_logging_queue_capacity{appender=\"todo-file\"} 1024"));
+        assertTrue(lines.contains("todo_logging_dropped_events_total 5"));
+    }
+
+    @Test
+    public void everySampleHasADeclaredTypeTest() {
+        requestMetrics.recordLatency(Resources.COUNT_BY_STATUS, Verbs.GET, 2_000_000);
+
+        List<String> declared = metricsService.scrape().lines()
+                .filter(line -> line.startsWith("# TYPE "))
+                .map(line -> line.split(" ")[2])
+                .toList();
+
+        metricsService.scrape().lines()
+                .filter(line -> !line.startsWith("#"))
+                .map(line -> line.split("[{ ]")[0].replaceAll("_(sum|count)$", ""))
+                .forEach(name -> assertTrue(declared.contains(name), name));
+    }
+}
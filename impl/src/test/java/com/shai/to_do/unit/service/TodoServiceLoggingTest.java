@@ -0,0 +1,100 @@
+package com.shai.to_do.unit.service;
+
+import com.shai.to_do.Context;
+import com.shai.to_do.constants.LogLevels;
+import com.shai.to_do.constants.Resources;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.constants.Verbs;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.exception.ResourceNotFoundException;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.mapper.response.DeleteResponseToDeleteResponseDTOMapper;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.service.TodoService;
+import com.shai.to_do.util.TodoLoggerFormatter;
+import com.shai.to_do.validators.TodoValidate;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class TodoServiceLoggingTest {
+
+    @Mock
+    private TodoValidate todoValidate;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private DeleteResponseToDeleteResponseDTOMapper deleteResponseToDeleteResponseDTOMapper;
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private TodoLoggerFormatter todoLoggerFormatter;
+
+    @Mock
+    private RecentRequestsBuffer recentRequestsBuffer;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    private Level todoLoggerLevel;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        todoLoggerLevel = LogManager.getLogger("todo-logger").getLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setLevel("todo-logger", todoLoggerLevel);
+    }
+
+    @Test
+    public void disabledDebugMessagesAreNeverFormattedTest() throws ResourceNotFoundException {
+        Configurator.setLevel("todo-logger", Level.INFO);
+
+        todoService.deleteById(1);
+
+        verify(todoLoggerFormatter).deleteById(1, LogLevels.INFO);
+        verify(todoLoggerFormatter, never()).deleteById(anyInt(), eq(LogLevels.DEBUG));
+    }
+
+    @Test
+    public void enabledDebugMessagesAreFormattedTest() throws ResourceNotFoundException {
+        Configurator.setLevel("todo-logger", Level.DEBUG);
+
+        todoService.deleteById(1);
+
+        verify(todoLoggerFormatter).deleteById(1, LogLevels.DEBUG);
+    }
+
+    @Test
+    public void notModifiedResponsesAreRecordedTest() throws BadRequestException {
+        when(todoRepository.getVersionTag()).thenReturn("1-1");
+        when(context.getRequestCounter()).thenReturn(7);
+
+        assertNull(todoService.countByStatus(Status.ALL, "1-1"::equals));
+        assertNull(todoService.search("milk", null, Status.ALL, 10, "1-1"::equals));
+
+        verify(recentRequestsBuffer).record(eq(7), eq(Resources.COUNT_BY_STATUS), eq(Verbs.GET), eq(304), anyLong(),
+                eq(RecentRequestsBuffer.NO_TODO_ID));
+        verify(recentRequestsBuffer).record(eq(7), eq(Resources.SEARCH), eq(Verbs.GET), eq(304), anyLong(),
+                eq(RecentRequestsBuffer.NO_TODO_ID));
+        verify(todoRepository, never()).countByStatus(any());
+    }
+}
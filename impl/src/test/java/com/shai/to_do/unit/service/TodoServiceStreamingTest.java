@@ -0,0 +1,118 @@
+package com.shai.to_do.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shai.to_do.Context;
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.logging.RecentRequestsBuffer;
+import com.shai.to_do.repository.TodoRepository;
+import com.shai.to_do.repository.engine.ColumnarTodoStorageEngine;
+import com.shai.to_do.repository.engine.HeapTodoStorageEngine;
+import com.shai.to_do.repository.engine.TodoStorageEngine;
+import com.shai.to_do.service.TodoService;
+import com.shai.to_do.util.TodoLoggerFormatter;
+import com.shai.to_do.validators.TodoValidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TodoServiceStreamingTest {
+    private static final int TODO_COUNT = 2_500;
+
+    @Mock
+    private TodoValidate todoValidate;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private TodoLoggerFormatter todoLoggerFormatter;
+
+    @Mock
+    private RecentRequestsBuffer recentRequestsBuffer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private TodoService todoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void streamsEveryPageInOrderWithoutClosingTheResponseTest() throws Exception {
+        List<Supplier<TodoStorageEngine>> engines = List.of(HeapTodoStorageEngine::new, ColumnarTodoStorageEngine::new);
+        for (Supplier<TodoStorageEngine> engine : engines) {
+            TodoRepository store = filledRepository(engine.get());
+            when(todoRepository.findTodoContentPageByStatusSortedByField(anyString(), anyString(), any(), anyInt()))
+                    .thenAnswer(invocation -> store.findTodoContentPageByStatusSortedByField(invocation.getArgument(0),
+                            invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+
+            for (String sortBy : List.of(SortBy.ID, SortBy.TITLE, SortBy.DUE_DATE)) {
+                CloseTrackingOutputStream outputStream = new CloseTrackingOutputStream();
+
+                todoService.streamTodoContentByStatusSortedByField(Status.ALL, Optional.of(sortBy), versionTag -> false)
+                        .writeTo(outputStream);
+
+                String body = outputStream.toString(StandardCharsets.UTF_8);
+                List<Integer> streamedIds = new ArrayList<>();
+                for (String line : body.split("\n")) {
+                    streamedIds.add(objectMapper.readValue(line, Todo.class).getId());
+                }
+                List<Integer> expectedIds = store.findTodoContentByStatusSortedByField(Status.ALL, sortBy).stream()
+                        .map(Todo::getId)
+                        .toList();
+                String scenario = engine.get().getClass().getSimpleName() + " by " + sortBy;
+                assertEquals(TODO_COUNT, streamedIds.size(), scenario);
+                assertEquals(expectedIds, streamedIds, scenario);
+                assertTrue(body.endsWith("\n"), scenario);
+                assertFalse(outputStream.closed, scenario);
+            }
+        }
+    }
+
+    private static TodoRepository filledRepository(TodoStorageEngine engine) {
+        TodoRepository repository = new TodoRepository(engine);
+        SplittableRandom random = new SplittableRandom(TODO_COUNT);
+        List<Todo> todos = new ArrayList<>();
+        for (int id = 1; id <= TODO_COUNT; id++) {
+            todos.add(new Todo(id, "title-" + random.nextInt(TODO_COUNT / 2), "content " + id,
+                    random.nextBoolean() ? Status.PENDING : Status.DONE, random.nextLong(1_000L, 1_000_000L)));
+        }
+        repository.addAll(todos);
+        return repository;
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.shai.to_do.unit.util;
+
+import com.shai.to_do.constants.SortBy;
+import com.shai.to_do.constants.Status;
+import com.shai.to_do.entity.Todo;
+import com.shai.to_do.exception.BadRequestException;
+import com.shai.to_do.util.TodoCursorCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TodoCursorCodecTest {
+
+    private final TodoCursorCodec todoCursorCodec = new TodoCursorCodec();
+
+    @Test
+    public void encodeAndDecodeSortKeyTest() throws BadRequestException {
+        Todo todo = new Todo(7, "title with ünïcode", "content", Status.PENDING, 123L);
+
+        Todo byTitle = todoCursorCodec.decode(SortBy.TITLE, todoCursorCodec.encode(SortBy.TITLE, todo));
+        Todo byDueDate = todoCursorCodec.decode(SortBy.DUE_DATE, todoCursorCodec.encode(SortBy.DUE_DATE, todo));
+        Todo byId = todoCursorCodec.decode(SortBy.ID, todoCursorCodec.encode(SortBy.ID, todo));
+
+        assertEquals(new Todo(7, "title with ünïcode", null, null, null), byTitle);
+        assertEquals(new Todo(7, null, null, null, 123L), byDueDate);
+        assertEquals(new Todo(7, null, null, null, null), byId);
+    }
+
+    @Test
+    public void decodeCursorOfOtherSortFieldTest_ShouldThrow_BadRequestException() {
+        String cursor = todoCursorCodec.encode(SortBy.ID, new Todo(7, "title", "content", Status.PENDING, 123L));
+
+        assertThrows(BadRequestException.class, () -> todoCursorCodec.decode(SortBy.TITLE, cursor));
+    }
+
+    @Test
+    public void decodeMalformedCursorTest_ShouldThrow_BadRequestException() {
+        assertThrows(BadRequestException.class, () -> todoCursorCodec.decode(SortBy.ID, "not a cursor!"));
+        assertThrows(BadRequestException.class, () -> todoCursorCodec.decode(SortBy.ID, "AAJJRA"));
+    }
+}
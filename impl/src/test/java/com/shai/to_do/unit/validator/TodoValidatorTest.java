@@ -1,5 +1,6 @@
 package com.shai.to_do.unit.validator;
 
+import com.shai.to_do.constants.SearchOperator;
 import com.shai.to_do.constants.SortBy;
 import com.shai.to_do.constants.Status;
 import com.shai.to_do.dto.TodoDTO;
@@ -7,6 +8,7 @@ import com.shai.to_do.exception.BadRequestException;
 import com.shai.to_do.exception.DueDateExpiredException;
 import com.shai.to_do.exception.ResourceNotFoundException;
 import com.shai.to_do.exception.TodoAlreadyExistsException;
+import com.shai.to_do.repository.TodoFilter;
 import com.shai.to_do.repository.TodoRepository;
 import com.shai.to_do.validators.TodoValidate;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +16,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
@@ -55,6 +64,62 @@ public class TodoValidatorTest {
         assertThrows(DueDateExpiredException.class, () -> todoValidate.validateAdd(todoDTO));
     }
 
+    @Test
+    void validateAddBatch_shouldReportErrorPerItem() throws BadRequestException {
+        long future = System.currentTimeMillis() + 100000L;
+        List<TodoDTO> todoDTOs = List.of(
+                new TodoDTO("New", "Content", future),
+                new TodoDTO("Existing", "Content", future),
+                new TodoDTO("New", "Content", future),
+                new TodoDTO("Expired", "Content", System.currentTimeMillis() - 100000L));
+
+        when(todoRepository.findExistingTitles(Set.of("New", "Existing", "Expired"))).thenReturn(Set.of("Existing"));
+        List<String> errors = todoValidate.validateAddBatch(todoDTOs);
+
+        assertNull(errors.get(0));
+        assertEquals("Error: TODO with the title [Existing] already exists in the system", errors.get(1));
+        assertEquals("Error: TODO with the title [New] already exists in the system", errors.get(2));
+        assertEquals("Error: Can’t create new TODO that its due date is in the past", errors.get(3));
+    }
+
+    @Test
+    void validateAddBatch_missingDueDate_shouldReportErrorForThatItem() throws BadRequestException {
+        List<TodoDTO> todoDTOs = List.of(
+                new TodoDTO("No due date", "Content", null),
+                new TodoDTO("Dated", "Content", System.currentTimeMillis() + 100000L));
+
+        when(todoRepository.findExistingTitles(Set.of("No due date", "Dated"))).thenReturn(Set.of());
+        List<String> errors = todoValidate.validateAddBatch(todoDTOs);
+
+        assertEquals("Error: TODO due date is missing", errors.get(0));
+        assertNull(errors.get(1));
+    }
+
+    @Test
+    void validateAddBatch_nullItem_shouldThrowBadRequestException() {
+        List<TodoDTO> todoDTOs = Arrays.asList(new TodoDTO("Title", "Content", System.currentTimeMillis() + 100000L), null);
+
+        assertThrows(BadRequestException.class, () -> todoValidate.validateAddBatch(todoDTOs));
+    }
+
+    @Test
+    void validateAddBatch_tooLarge_shouldThrowBadRequestException() {
+        List<TodoDTO> todoDTOs = Collections.nCopies(TodoValidate.MAX_BATCH_SIZE + 1, new TodoDTO("Title", "Content", 1L));
+
+        assertThrows(BadRequestException.class, () -> todoValidate.validateAddBatch(todoDTOs));
+    }
+
+    @Test
+    void validateBulkFilter_withoutCriteria_shouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> todoValidate.validateBulkFilter(new TodoFilter(Status.ALL, null, null, null)));
+        assertThrows(BadRequestException.class,
+                () -> todoValidate.validateBulkFilter(new TodoFilter(Status.ALL, 10L, 5L, null)));
+        assertThrows(BadRequestException.class,
+                () -> todoValidate.validateBulkUpdateStatus("INVALID", new TodoFilter(Status.DONE, null, null, null)));
+        assertDoesNotThrow(() -> todoValidate.validateBulkUpdateStatus(Status.LATE, new TodoFilter(Status.ALL, null, 5L, null)));
+    }
+
     @Test
     void givenValidInput_whenValidateUpdateStatus_thenNoExceptionThrown() {
         Integer id = 1;
@@ -123,4 +188,25 @@ public class TodoValidatorTest {
 
         assertThrows(BadRequestException.class, () -> todoValidate.validateCountByStatus(status));
     }
+
+    @Test
+    void givenSearchParams_whenValidateSearch_thenOnlyValidParamsAccepted() {
+        List<String> terms = List.of("milk");
+
+        assertDoesNotThrow(() -> todoValidate.validateSearch(terms, SearchOperator.AND, Status.ALL, 20));
+        assertDoesNotThrow(() -> todoValidate.validateSearch(terms, SearchOperator.OR, Status.DONE, 1));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateSearch(Collections.emptyList(), SearchOperator.AND, Status.ALL, 20));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateSearch(Collections.nCopies(TodoValidate.MAX_SEARCH_TERMS + 1, "milk"), SearchOperator.AND, Status.ALL, 20));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateSearch(terms, "XOR", Status.ALL, 20));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateSearch(terms, SearchOperator.AND, "invalid_status", 20));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateSearch(terms, SearchOperator.AND, Status.ALL, 0));
+    }
+
+    @Test
+    void givenTitlesParams_whenValidateGetTitlesByPrefix_thenOnlyValidParamsAccepted() {
+        assertDoesNotThrow(() -> todoValidate.validateGetTitlesByPrefix("", 10));
+        assertDoesNotThrow(() -> todoValidate.validateGetTitlesByPrefix("buy", TodoValidate.MAX_PAGE_LIMIT));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateGetTitlesByPrefix(null, 10));
+        assertThrows(BadRequestException.class, () -> todoValidate.validateGetTitlesByPrefix("buy", 0));
+    }
 }